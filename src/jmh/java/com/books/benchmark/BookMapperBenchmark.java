@@ -0,0 +1,46 @@
+package com.books.benchmark;
+
+import com.books.domain.book.Book;
+import com.books.domain.book.BookMapper;
+import com.books.domain.book.BookMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookMapperBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    private final BookMapper bookMapper = new BookMapperImpl();
+    private Book[] books;
+
+    @Setup
+    public void setUp() {
+        books = SyntheticCsv.books(BOOKS).toArray(Book[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public void toEntity(Blackhole blackhole) {
+        for (var book : books) {
+            blackhole.consume(bookMapper.toEntity(book));
+        }
+    }
+}
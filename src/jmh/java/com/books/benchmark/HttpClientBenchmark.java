@@ -0,0 +1,97 @@
+package com.books.benchmark;
+
+import com.books.core.AwsClientFactory;
+import com.books.core.HttpClientSettings;
+import com.books.core.HttpClientType;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Daws.region=us-east-1", "-Daws.accessKeyId=benchmark",
+        "-Daws.secretAccessKey=benchmark", "-Dsun.net.httpserver.nodelay=true"})
+public class HttpClientBenchmark {
+
+    private static final byte[] ITEM = """
+            {"Item":{"title":{"S":"Dom Casmurro"},"author":{"S":"Machado de Assis"}}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final Map<String, AttributeValue> KEY = Map.of(
+            "title", AttributeValue.fromS("Dom Casmurro"),
+            "author", AttributeValue.fromS("Machado de Assis"));
+
+    @Param({"apache", "url-connection"})
+    private String httpClient;
+
+    private HttpServer server;
+    private AwsClientFactory warmFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+            exchange.sendResponseHeaders(200, ITEM.length);
+            try (var output = exchange.getResponseBody()) {
+                output.write(ITEM);
+            }
+        });
+        server.start();
+
+        warmFactory = new AwsClientFactory(settings());
+        warmFactory.dynamoDbClient().getItem(request -> request.tableName("books").key(KEY));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        warmFactory.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 20)
+    public GetItemResponse coldStart() {
+        try (var factory = new AwsClientFactory(settings())) {
+            return factory.dynamoDbClient().getItem(request -> request.tableName("books").key(KEY));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public GetItemResponse getItem() {
+        return warmFactory.dynamoDbClient().getItem(request -> request.tableName("books").key(KEY));
+    }
+
+    private HttpClientSettings settings() {
+        return new HttpClientSettings(HttpClientType.from(httpClient), 50, Duration.ofSeconds(2),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), true, 0,
+                URI.create("http://localhost:" + server.getAddress().getPort()));
+    }
+}
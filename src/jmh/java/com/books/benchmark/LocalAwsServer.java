@@ -0,0 +1,82 @@
+package com.books.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+final class LocalAwsServer implements AutoCloseable {
+
+    private static final String ETAG = "\"benchmark\"";
+    private static final Map<String, String> DYNAMODB_RESPONSES = Map.of(
+            "DynamoDB_20120810.BatchWriteItem", "{\"UnprocessedItems\":{}}",
+            "DynamoDB_20120810.BatchGetItem", "{\"Responses\":{},\"UnprocessedKeys\":{}}");
+
+    private final HttpServer server;
+    private final byte[] object;
+
+    LocalAwsServer(byte[] object) {
+        this.object = object;
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        var target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+        if (target != null) {
+            var body = DYNAMODB_RESPONSES.getOrDefault(target, "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+            send(exchange, 200, body, 0, body.length);
+            return;
+        }
+
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().add("Content-Length", Integer.toString(object.length));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        var range = exchange.getRequestHeaders().getFirst("Range");
+        if (range == null) {
+            send(exchange, 200, object, 0, object.length);
+            return;
+        }
+
+        var bounds = range.substring("bytes=".length()).split("-");
+        var start = Integer.parseInt(bounds[0]);
+        var end = Math.min(object.length - 1, Integer.parseInt(bounds[1]));
+        exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + object.length);
+        send(exchange, 206, object, start, end - start + 1);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body, int offset, int length)
+            throws IOException {
+        exchange.sendResponseHeaders(status, length);
+        try (var output = exchange.getResponseBody()) {
+            output.write(body, offset, length);
+        }
+    }
+}
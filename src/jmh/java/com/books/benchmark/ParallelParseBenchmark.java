@@ -0,0 +1,48 @@
+package com.books.benchmark;
+
+import com.books.domain.book.Book;
+import com.books.domain.csv.CsvParserType;
+import com.books.domain.csv.CsvService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelParseBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"1", "2", "4"})
+    private int parallelism;
+
+    private byte[] csv;
+    private CsvService csvService;
+
+    @Setup
+    public void setUp() {
+        csv = SyntheticCsv.generate(rows);
+        csvService = new CsvService(CsvParserType.NATIVE, 4_096, parallelism);
+    }
+
+    @Benchmark
+    public List<Book> parseCsvToBooks() {
+        return csvService.parseCsvToBooks(csv);
+    }
+}
@@ -0,0 +1,89 @@
+package com.books.benchmark;
+
+import com.books.domain.book.Book;
+import com.books.domain.csv.CsvParserType;
+import com.books.domain.csv.CsvService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParsedFootprintBenchmark {
+
+    private static final int STRING_HEADER_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"0", "4096"})
+    private int dictionaryEntries;
+
+    private byte[] csv;
+    private CsvService csvService;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long stringBytes;
+        public long distinctStrings;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            stringBytes = 0;
+            distinctStrings = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        csv = SyntheticCsv.generate(rows);
+        csvService = new CsvService(CsvParserType.NATIVE, dictionaryEntries);
+    }
+
+    @Benchmark
+    public List<Book> parseCsvToBooks(Footprint footprint) {
+        var books = csvService.parseCsvToBooks(csv);
+
+        Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>(books.size() * 4));
+        for (var book : books) {
+            strings.add(book.getTitle());
+            strings.add(book.getAuthor());
+            strings.add(book.getGenre());
+            strings.add(book.getPeriod());
+        }
+        strings.remove(null);
+
+        footprint.distinctStrings = strings.size();
+        footprint.stringBytes = strings.stream().mapToLong(ParsedFootprintBenchmark::sizeOf).sum();
+        return books;
+    }
+
+    private static long sizeOf(String value) {
+        var latin1 = value.chars().allMatch(character -> character < 256);
+        var arrayBytes = ARRAY_HEADER_BYTES + (long) value.length() * (latin1 ? 1 : 2);
+        return STRING_HEADER_BYTES + ((arrayBytes + 7) & ~7L);
+    }
+}
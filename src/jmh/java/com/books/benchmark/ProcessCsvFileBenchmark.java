@@ -0,0 +1,82 @@
+package com.books.benchmark;
+
+import com.books.application.BookApplication;
+import com.books.application.BookDeduplicator;
+import com.books.application.ConcurrentBookWriter;
+import com.books.application.RejectFileWriter;
+import com.books.core.Configuration;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.CheckpointRepository;
+import com.books.repository.s3.S3Bucket;
+import com.books.support.InMemoryDynamoDbClient;
+import com.books.support.InMemoryS3Client;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProcessCsvFileBenchmark {
+
+    private static final String FILE_NAME = "benchmark.csv";
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    @Param({"buffered", "streaming"})
+    private String pipeline;
+
+    private final Configuration configuration = new Configuration();
+    private final InMemoryS3Client s3Client = new InMemoryS3Client();
+    private BookApplication bookApplication;
+
+    @Setup(Level.Trial)
+    public void uploadFile() {
+        var bucket = URI.create(configuration.getS3Url()).getHost();
+        s3Client.putObject(bucket, FILE_NAME, SyntheticCsv.generate(rows));
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTable() {
+        var dynamoDbClient = new InMemoryDynamoDbClient("autor", "genero", 1_000);
+        var enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build();
+        var bookRepository = new BookRepository(dynamoDbClient, enhancedClient, configuration);
+
+        var s3Bucket = new S3Bucket(s3Client, configuration);
+        bookApplication = new BookApplication(s3Bucket, new CsvService(configuration),
+                new BookMapperImpl(), new BookDeduplicator(configuration),
+                new ConcurrentBookWriter(bookRepository, configuration),
+                new MetricsEmitter(configuration.getMetricsNamespace(), false, System.out),
+                new CheckpointRepository(new InMemoryDynamoDbClient("arquivo", null, 1_000), configuration),
+                new RejectFileWriter(s3Bucket, configuration));
+    }
+
+    @Benchmark
+    public void processCsvFile() {
+        if ("streaming".equals(pipeline)) {
+            bookApplication.processCsvFileStreaming(FILE_NAME);
+        } else {
+            bookApplication.processCsvFile(FILE_NAME);
+        }
+    }
+}
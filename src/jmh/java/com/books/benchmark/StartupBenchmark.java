@@ -0,0 +1,68 @@
+package com.books.benchmark;
+
+import com.books.ApplicationContext;
+import com.books.BooksEtlHandler;
+import com.books.core.AwsClientFactory;
+import com.books.core.Configuration;
+import com.books.core.HttpClientSettings;
+import com.books.core.HttpClientType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = {"-Daws.region=us-east-1", "-Daws.accessKeyId=benchmark",
+        "-Daws.secretAccessKey=benchmark", "-Dsun.net.httpserver.nodelay=true"})
+public class StartupBenchmark {
+
+    private static final String FILE_NAME = "benchmark.csv";
+
+    @Param({"apache", "url-connection"})
+    private String httpClient;
+
+    private LocalAwsServer server;
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        server = new LocalAwsServer(SyntheticCsv.generate(100));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.close();
+    }
+
+    @Benchmark
+    public ApplicationContext applicationContext() {
+        return new ApplicationContext(new Configuration(), new AwsClientFactory(settings()));
+    }
+
+    @Benchmark
+    public Map<String, String> timeToFirstInvocation() {
+        var handler = new BooksEtlHandler(new ApplicationContext(new Configuration(), new AwsClientFactory(settings())));
+        return handler.handleRequest(Map.of("fileName", FILE_NAME), null);
+    }
+
+    private HttpClientSettings settings() {
+        return new HttpClientSettings(HttpClientType.from(httpClient), 50, Duration.ofSeconds(2),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), true, 0, server.endpoint());
+    }
+}
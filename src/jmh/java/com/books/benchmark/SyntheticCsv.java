@@ -0,0 +1,64 @@
+package com.books.benchmark;
+
+import com.books.domain.book.Book;
+import com.books.domain.csv.BookCsvWriter;
+import com.books.domain.csv.CsvService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+final class SyntheticCsv {
+
+    private static final Path SEED_FILE = Path.of(System.getProperty("benchmark.seed", "aws/literatura_brasileira.csv"));
+
+    private SyntheticCsv() {
+    }
+
+    static byte[] generate(int rows) {
+        var seed = seedBooks();
+        var output = new ByteArrayOutputStream(Math.max(1_024, rows * 72));
+        output.writeBytes(BookCsvWriter.HEADER);
+
+        for (var row = 0; row < rows; row++) {
+            BookCsvWriter.writeRecord(copyOf(seed.get(row % seed.size()), row / seed.size()), output);
+        }
+        return output.toByteArray();
+    }
+
+    static byte[] gzip(byte[] content) {
+        var output = new ByteArrayOutputStream(content.length / 4);
+        try (var gzip = new GZIPOutputStream(output, 64 * 1024)) {
+            gzip.write(content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return output.toByteArray();
+    }
+
+    static List<Book> books(int rows) {
+        return new CsvService().parseCsvToBooks(generate(rows));
+    }
+
+    private static Book copyOf(Book original, int copy) {
+        var book = new Book();
+        book.setTitle(original.getTitle());
+        book.setAuthor(copy == 0 ? original.getAuthor() : original.getAuthor() + " #" + copy);
+        book.setGenre(original.getGenre());
+        book.setPeriod(original.getPeriod());
+        return book;
+    }
+
+    private static List<Book> seedBooks() {
+        try {
+            return new CsvService().parseCsvToBooks(Files.readAllBytes(SEED_FILE));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Não foi possível ler o arquivo base " + SEED_FILE.toAbsolutePath(),
+                    exception);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.books;
+
+import com.books.application.AsyncBookApplication;
+import com.books.application.BookApplication;
+import com.books.application.BookDeduplicator;
+import com.books.application.BookExporter;
+import com.books.application.ConcurrentBookWriter;
+import com.books.application.EtlEngine;
+import com.books.application.PrefixProcessor;
+import com.books.application.RejectFileWriter;
+import com.books.core.AwsClientFactory;
+import com.books.core.Configuration;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapper;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.repository.dynamo.AsyncBookRepository;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.CachingBookRepository;
+import com.books.repository.dynamo.CheckpointRepository;
+import com.books.repository.s3.S3AsyncBucket;
+import com.books.repository.s3.S3Bucket;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Getter
+public final class ApplicationContext {
+
+    private final long startedAt;
+    private final Configuration configuration;
+    private final AwsClientFactory clientFactory;
+    private final S3Bucket s3Bucket;
+    private final CsvService csvService;
+    private final BookMapper bookMapper;
+    private final BookRepository bookRepository;
+    private final CheckpointRepository checkpointRepository;
+    private final BookApplication bookApplication;
+    private final PrefixProcessor prefixProcessor;
+    private final BookExporter bookExporter;
+    private final AsyncBookApplication asyncBookApplication;
+
+    public ApplicationContext() {
+        this(System.nanoTime(), new Configuration());
+    }
+
+    public ApplicationContext(Configuration configuration, AwsClientFactory clientFactory) {
+        this(System.nanoTime(), configuration, clientFactory);
+    }
+
+    private ApplicationContext(long startedAt, Configuration configuration) {
+        this(startedAt, configuration, new AwsClientFactory(configuration));
+    }
+
+    private ApplicationContext(long startedAt, Configuration configuration, AwsClientFactory clientFactory) {
+        this.startedAt = startedAt;
+        this.configuration = configuration;
+        this.clientFactory = clientFactory;
+
+        var dynamoDbClient = clientFactory.dynamoDbClient();
+        var dynamoDbEnhancedClient = clientFactory.dynamoDbEnhancedClient();
+
+        this.s3Bucket = new S3Bucket(clientFactory.s3Client(), configuration);
+        this.csvService = new CsvService(configuration);
+        this.bookMapper = new BookMapperImpl();
+        this.bookRepository = configuration.isCacheEnabled()
+                ? new CachingBookRepository(dynamoDbClient, dynamoDbEnhancedClient, configuration)
+                : new BookRepository(dynamoDbClient, dynamoDbEnhancedClient, configuration);
+        this.checkpointRepository = new CheckpointRepository(dynamoDbClient, configuration);
+        var metricsEmitter = new MetricsEmitter(configuration);
+        this.bookApplication = new BookApplication(s3Bucket, csvService, bookMapper,
+                new BookDeduplicator(configuration), new ConcurrentBookWriter(bookRepository, configuration),
+                metricsEmitter, checkpointRepository, new RejectFileWriter(s3Bucket, configuration));
+        this.prefixProcessor = new PrefixProcessor(s3Bucket, bookApplication, configuration);
+        this.bookExporter = new BookExporter(bookRepository, s3Bucket, bookMapper, configuration);
+        this.asyncBookApplication = EtlEngine.from(configuration.getEngine()) == EtlEngine.ASYNC
+                ? new AsyncBookApplication(new S3AsyncBucket(clientFactory.s3AsyncClient(), configuration),
+                        csvService, bookMapper,
+                        new AsyncBookRepository(clientFactory.dynamoDbEnhancedAsyncClient(), configuration),
+                        metricsEmitter, configuration)
+                : null;
+
+        log.info("Contexto da aplicação montado em {} ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+}
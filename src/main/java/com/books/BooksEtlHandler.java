@@ -0,0 +1,218 @@
+package com.books;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.books.application.AsyncBookApplication;
+import com.books.application.BookApplication;
+import com.books.application.BookExporter;
+import com.books.application.Deadline;
+import com.books.application.FileResult;
+import com.books.application.PrefixProcessor;
+import com.books.core.AwsClientFactory;
+import com.books.domain.book.Book;
+import com.books.domain.book.BookMapper;
+import com.books.domain.csv.CsvService;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.s3.S3Bucket;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Slf4j
+public final class BooksEtlHandler implements RequestHandler<Map<String, String>, Map<String, String>>, Resource {
+
+    static final String FILE_NAME_KEY = "fileName";
+    static final String PREFIX_KEY = "prefix";
+    static final String EXPORT_KEY = "export";
+
+    private static final String PRIMING_KEY = "__priming__";
+    private static final byte[] PRIMING_CSV = """
+            titulo,autor,genero,periodo
+            "Dom Casmurro","Machado de Assis","Romance","Realismo"
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final AwsClientFactory clientFactory;
+    private final S3Bucket s3Bucket;
+    private final CsvService csvService;
+    private final BookMapper bookMapper;
+    private final BookRepository bookRepository;
+    private final BookApplication bookApplication;
+    private final PrefixProcessor prefixProcessor;
+    private final AsyncBookApplication asyncBookApplication;
+    private final BookExporter bookExporter;
+    private final long checkpointSafetyMarginMillis;
+    private final AtomicBoolean firstInvocation = new AtomicBoolean(true);
+    private volatile long readyAt;
+
+    public BooksEtlHandler() {
+        this(new ApplicationContext());
+    }
+
+    public BooksEtlHandler(ApplicationContext context) {
+        this(context.getClientFactory(), context.getS3Bucket(), context.getCsvService(), context.getBookMapper(),
+                context.getBookRepository(), context.getBookApplication(), context.getPrefixProcessor(),
+                context.getAsyncBookApplication(), context.getBookExporter(),
+                context.getConfiguration().getCheckpointSafetyMarginMillis());
+
+        clientFactory.prewarm(s3Bucket.bucketName());
+        Core.getGlobalContext().register(this);
+        this.readyAt = System.nanoTime();
+        log.info("Inicialização do handler concluída em {} ms", elapsedMillis(context.getStartedAt(), readyAt));
+    }
+
+    BooksEtlHandler(AwsClientFactory clientFactory, S3Bucket s3Bucket, CsvService csvService, BookMapper bookMapper,
+            BookRepository bookRepository, BookApplication bookApplication, PrefixProcessor prefixProcessor,
+            AsyncBookApplication asyncBookApplication, BookExporter bookExporter, long checkpointSafetyMarginMillis) {
+        this.clientFactory = clientFactory;
+        this.s3Bucket = s3Bucket;
+        this.csvService = csvService;
+        this.bookMapper = bookMapper;
+        this.bookRepository = bookRepository;
+        this.bookApplication = bookApplication;
+        this.prefixProcessor = prefixProcessor;
+        this.asyncBookApplication = asyncBookApplication;
+        this.bookExporter = bookExporter;
+        this.checkpointSafetyMarginMillis = checkpointSafetyMarginMillis;
+        this.readyAt = System.nanoTime();
+    }
+
+    @Override
+    public Map<String, String> handleRequest(Map<String, String> input, Context context) {
+        var prefix = Optional.ofNullable(input).map(request -> request.get(PREFIX_KEY));
+        var fileName = Optional.ofNullable(input)
+                .map(request -> request.get(FILE_NAME_KEY))
+                .filter(name -> !name.isBlank());
+        var exportName = Optional.ofNullable(input)
+                .map(request -> request.get(EXPORT_KEY))
+                .filter(name -> !name.isBlank());
+
+        if (prefix.isEmpty() && fileName.isEmpty() && exportName.isEmpty()) {
+            throw new IllegalArgumentException("Parâmetro '" + FILE_NAME_KEY + "', '" + PREFIX_KEY + "' ou '"
+                    + EXPORT_KEY + "' não informado no evento");
+        }
+
+        var isFirstInvocation = firstInvocation.compareAndSet(true, false);
+        var startedAt = System.nanoTime();
+
+        Map<String, String> response;
+        if (fileName.isPresent()) {
+            response = processFile(fileName.get(), deadline(context));
+        } else if (prefix.isPresent()) {
+            response = processPrefix(prefix.get(), deadline(context));
+        } else {
+            response = export(exportName.get());
+        }
+
+        if (isFirstInvocation) {
+            var finishedAt = System.nanoTime();
+            log.info("Primeira invocação concluída em {} ms ({} ms desde o fim da inicialização)",
+                    elapsedMillis(startedAt, finishedAt), elapsedMillis(readyAt, finishedAt));
+        }
+
+        return response;
+    }
+
+    private Map<String, String> processFile(String fileName, Deadline deadline) {
+        var result = asyncBookApplication != null
+                ? asyncBookApplication.processCsvFileStreaming(fileName)
+                : bookApplication.processCsvFileStreaming(fileName, deadline);
+
+        if (!result.completed()) {
+            throw new ProcessingException(String.format(
+                    "Tempo limite próximo: processamento do arquivo %s interrompido após %d linhas; "
+                            + "a próxima tentativa retoma a partir do checkpoint", fileName, result.rows()));
+        }
+
+        return Map.of(FILE_NAME_KEY, fileName, "status", "PROCESSADO", "linhas", Long.toString(result.rows()));
+    }
+
+    private Deadline deadline(Context context) {
+        if (context == null) {
+            return Deadline.none();
+        }
+        return new Deadline(context::getRemainingTimeInMillis, checkpointSafetyMarginMillis);
+    }
+
+    private Map<String, String> processPrefix(String prefix, Deadline deadline) {
+        var summary = prefixProcessor.processPrefix(prefix, deadline);
+        if (summary.interrupted() > 0) {
+            throw new ProcessingException(String.format(
+                    "Tempo limite próximo: processamento do prefixo %s interrompido com %d arquivos pendentes; "
+                            + "a próxima tentativa retoma a partir dos checkpoints", prefix, summary.interrupted()));
+        }
+
+        var failedFiles = summary.failures().stream()
+                .map(FileResult::fileName)
+                .collect(Collectors.joining(","));
+
+        return Map.of(PREFIX_KEY, prefix,
+                "status", summary.failed() == 0 ? "PROCESSADO" : "PROCESSADO_COM_FALHAS",
+                "arquivos", Long.toString(summary.files().size()),
+                "falhas", Long.toString(summary.failed()),
+                "arquivosComFalha", failedFiles);
+    }
+
+    private Map<String, String> export(String exportName) {
+        var summary = bookExporter.export(exportName);
+
+        return Map.of(EXPORT_KEY, exportName,
+                "status", "EXPORTADO",
+                "linhas", Long.toString(summary.rows()),
+                "partes", Integer.toString(summary.parts()),
+                "bytes", Long.toString(summary.bytes()));
+    }
+
+    @Override
+    public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+        var startedAt = System.nanoTime();
+        prime();
+        log.info("Priming antes do checkpoint concluído em {} ms", elapsedMillis(startedAt, System.nanoTime()));
+    }
+
+    @Override
+    public void afterRestore(org.crac.Context<? extends Resource> context) {
+        clientFactory.prewarm(s3Bucket.bucketName());
+        readyAt = System.nanoTime();
+        firstInvocation.set(true);
+        log.info("Handler restaurado a partir do snapshot");
+    }
+
+    void prime() {
+        runPriming("schema da tabela", () -> TableSchema.fromBean(BookEntity.class));
+        runPriming("mapeamento do CSV", () -> {
+            csvService.parseCsvToBooks(PRIMING_CSV);
+            try (var books = csvService.streamCsvToBooks(new ByteArrayInputStream(PRIMING_CSV))) {
+                books.forEach(this::primeMapper);
+            }
+        });
+        runPriming("cliente DynamoDB", () -> bookRepository.findByAutorAndGenero(PRIMING_KEY, PRIMING_KEY));
+        runPriming("cliente S3", () -> s3Bucket.exists(PRIMING_KEY));
+    }
+
+    private void primeMapper(Book book) {
+        bookMapper.toDomain(bookMapper.toEntity(book));
+    }
+
+    private void runPriming(String description, Runnable priming) {
+        try {
+            priming.run();
+        } catch (Exception exception) {
+            log.warn("Falha no priming de {}", description, exception);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos, long endNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+    }
+}
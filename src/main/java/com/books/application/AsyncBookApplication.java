@@ -0,0 +1,137 @@
+package com.books.application;
+
+import com.books.application.flow.AsyncBatchWriter;
+import com.books.application.flow.BatchStage;
+import com.books.application.flow.CsvParseStage;
+import com.books.core.Configuration;
+import com.books.core.metrics.FileMetrics;
+import com.books.core.metrics.FileMetrics.Counter;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapper;
+import com.books.domain.csv.CsvService;
+import com.books.domain.exception.FileNotFoundException;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.AsyncBookRepository;
+import com.books.repository.s3.S3AsyncBucket;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+@Slf4j
+@Singleton
+public class AsyncBookApplication {
+
+    private final S3AsyncBucket s3AsyncBucket;
+    private final CsvService csvService;
+    private final BookMapper bookMapper;
+    private final AsyncBookRepository bookRepository;
+    private final MetricsEmitter metricsEmitter;
+    private final DedupPolicy dedupPolicy;
+    private final int maxInFlightWrites;
+
+    @Inject
+    public AsyncBookApplication(S3AsyncBucket s3AsyncBucket, CsvService csvService, BookMapper bookMapper,
+            AsyncBookRepository bookRepository, MetricsEmitter metricsEmitter, Configuration configuration) {
+        this(s3AsyncBucket, csvService, bookMapper, bookRepository, metricsEmitter,
+                DedupPolicy.from(configuration.getDedupPolicy()), Math.clamp(configuration.getWriteConcurrency(), 1,
+                        Math.max(1, configuration.getHttpMaxConnections())));
+    }
+
+    public AsyncBookApplication(S3AsyncBucket s3AsyncBucket, CsvService csvService, BookMapper bookMapper,
+            AsyncBookRepository bookRepository, MetricsEmitter metricsEmitter, DedupPolicy dedupPolicy,
+            int maxInFlightWrites) {
+        this.s3AsyncBucket = s3AsyncBucket;
+        this.csvService = csvService;
+        this.bookMapper = bookMapper;
+        this.bookRepository = bookRepository;
+        this.metricsEmitter = metricsEmitter;
+        this.dedupPolicy = dedupPolicy;
+        this.maxInFlightWrites = Math.max(1, maxInFlightWrites);
+    }
+
+    public StreamingResult processCsvFileStreaming(String fileName) {
+        try {
+            return processCsvFileAsync(fileName).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ProcessingException("Erro inesperado ao processar arquivo: " + fileName, exception.getCause());
+        }
+    }
+
+    public CompletableFuture<StreamingResult> processCsvFileAsync(String fileName) {
+        log.info("Iniciando processamento assíncrono do arquivo CSV: {}", fileName);
+        var metrics = new FileMetrics(fileName, "async");
+
+        return s3AsyncBucket.openFile(fileName)
+                .thenCompose(publisher -> run(fileName, publisher.orElseThrow(() ->
+                        new FileNotFoundException("Arquivo não encontrado no S3: " + fileName)), metrics))
+                .handle((result, exception) -> {
+                    metrics.finish(exception == null);
+                    metricsEmitter.emit(metrics);
+                    if (exception != null) {
+                        throw handleFailure(fileName, exception);
+                    }
+                    return result;
+                });
+    }
+
+    private CompletableFuture<StreamingResult> run(String fileName, Flow.Publisher<ByteBuffer> bytes,
+            FileMetrics metrics) {
+        var parse = new CsvParseStage(csvService.newParser(), metrics);
+        var batch = new BatchStage(bookMapper, dedupPolicy, metrics);
+        var writer = new AsyncBatchWriter(bookRepository, maxInFlightWrites, metrics);
+
+        batch.subscribe(writer);
+        parse.subscribe(batch);
+        bytes.subscribe(parse);
+
+        return writer.result().thenApply(summary -> {
+            metrics.increment(Counter.ITEMS_WRITTEN, summary.written());
+            metrics.increment(Counter.ITEMS_COLLAPSED, batch.collapsed());
+            metrics.increment(Counter.ITEMS_FAILED, summary.failed());
+            metrics.increment(Counter.WRITE_RETRIES, summary.retried());
+            metrics.increment(Counter.WRITE_THROTTLES, summary.throttled());
+
+            if (summary.failed() > 0) {
+                summary.failedItems().forEach(entity -> log.error("Erro ao salvar livro: autor={}, genero={}",
+                        entity.getAuthor(), entity.getGenre()));
+                throw new ProcessingException(String.format(
+                        "Erro ao salvar %d livros no DynamoDB após %d reenvios", summary.failed(), summary.retried()));
+            }
+
+            log.info("Processamento assíncrono concluído com sucesso. {} livros processados do arquivo: {} "
+                    + "(gravados={}, reenviados={}, descartados por chave repetida={})", parse.rows(), fileName,
+                    summary.written(), summary.retried(), batch.collapsed());
+            return new StreamingResult(fileName, parse.rows(), true);
+        });
+    }
+
+    private RuntimeException handleFailure(String fileName, Throwable exception) {
+        var cause = exception instanceof CompletionException && exception.getCause() != null
+                ? exception.getCause()
+                : exception;
+
+        return switch (cause) {
+            case FileNotFoundException notFound -> {
+                log.error("Arquivo não encontrado: {}", fileName, notFound);
+                yield notFound;
+            }
+            case ProcessingException processing -> {
+                log.error("Erro ao processar arquivo: {}", fileName, processing);
+                yield processing;
+            }
+            default -> {
+                log.error("Erro inesperado ao processar arquivo: {}", fileName, cause);
+                yield new ProcessingException("Erro inesperado ao processar arquivo: " + fileName, cause);
+            }
+        };
+    }
+}
@@ -1,19 +1,36 @@
 package com.books.application;
 
+import com.books.core.metrics.FileMetrics;
+import com.books.core.metrics.FileMetrics.Counter;
+import com.books.core.metrics.FileMetrics.Stage;
+import com.books.core.metrics.MeteredInputStream;
+import com.books.core.metrics.MetricsEmitter;
 import com.books.domain.book.Book;
 import com.books.domain.book.BookMapper;
+import com.books.domain.csv.BookReader;
 import com.books.domain.csv.CsvService;
 import com.books.domain.exception.FileNotFoundException;
 import com.books.domain.exception.ProcessingException;
-import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.BatchWriteSummary;
+import com.books.repository.dynamo.Checkpoint;
+import com.books.repository.dynamo.CheckpointRepository;
 import com.books.repository.dynamo.entity.BookEntity;
 import com.books.repository.s3.S3Bucket;
+import com.books.repository.s3.S3ObjectMetadata;
 
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Singleton
@@ -23,48 +40,240 @@ public class BookApplication {
     private final S3Bucket s3Bucket;
     private final CsvService csvService;
     private final BookMapper bookMapper;
-    private final BookRepository bookRepository;
+    private final BookDeduplicator bookDeduplicator;
+    private final ConcurrentBookWriter bookWriter;
+    private final MetricsEmitter metricsEmitter;
+    private final CheckpointRepository checkpointRepository;
+    private final RejectFileWriter rejectFileWriter;
 
     public void processCsvFile(String fileName) {
         log.info("Iniciando processamento do arquivo CSV: {}", fileName);
+        var metrics = new FileMetrics(fileName, "buffered");
+        var succeeded = false;
 
         try {
-            var csvData = readCsvFileFromS3(fileName);
-            var books = parseCsvToBooks(csvData);
-            saveBooksToDynamo(books);
+            var csvData = readCsvFileFromS3(fileName, metrics);
+            var books = parseCsvToBooks(csvData, metrics);
+            saveBooksToDynamo(books, metrics);
+            succeeded = true;
 
             log.info("Processamento concluído com sucesso. {} livros processados do arquivo: {}",
                     books.size(), fileName);
-        } catch (FileNotFoundException exception) {
-            log.error("Arquivo não encontrado: {}", fileName, exception);
-            throw exception;
-        } catch (ProcessingException exception) {
-            log.error("Erro ao processar arquivo: {}", fileName, exception);
-            throw exception;
         } catch (Exception exception) {
-            log.error("Erro inesperado ao processar arquivo: {}", fileName, exception);
-            throw new ProcessingException("Erro inesperado ao processar arquivo: " + fileName, exception);
+            throw handleFailure(fileName, exception);
+        } finally {
+            metrics.finish(succeeded);
+            metricsEmitter.emit(metrics);
         }
     }
 
-    private byte[] readCsvFileFromS3(String fileName) {
+    public void processCsvFileStreaming(String fileName) {
+        processCsvFileStreaming(fileName, Deadline.none());
+    }
+
+    public StreamingResult processCsvFileStreaming(String fileName, Deadline deadline) {
+        log.info("Iniciando processamento em streaming do arquivo CSV: {}", fileName);
+        var metrics = new FileMetrics(fileName, "streaming");
+        var rejects = rejectFileWriter.isEnabled() ? rejectFileWriter.open(fileName) : RejectFile.disabled();
+        var succeeded = false;
+
+        try {
+            var result = checkpointRepository.isEnabled()
+                    ? streamWithCheckpoints(fileName, deadline, metrics, rejects)
+                    : streamFromStart(fileName, metrics, rejects);
+            finishRejects(fileName, rejects, metrics);
+            succeeded = true;
+
+            if (result.completed()) {
+                log.info("Processamento em streaming concluído com sucesso. {} livros processados do arquivo: {}",
+                        result.rows(), fileName);
+            } else {
+                log.warn("Processamento em streaming interrompido pelo limite de tempo após {} linhas do arquivo: {}",
+                        result.rows(), fileName);
+            }
+            return result;
+        } catch (Exception exception) {
+            rejects.abort();
+            throw handleFailure(fileName, exception);
+        } finally {
+            metrics.finish(succeeded);
+            metricsEmitter.emit(metrics);
+        }
+    }
+
+    private void finishRejects(String fileName, RejectFile rejects, FileMetrics metrics) {
+        if (!rejects.isEnabled()) {
+            return;
+        }
+
+        rejects.close();
+        metrics.increment(Counter.ROWS_REJECTED, rejects.rejected());
+        if (rejects.rejected() == 0) {
+            return;
+        }
+
+        var total = metrics.count(Counter.ROWS) + rejects.malformedRows();
+        var ratio = (double) rejects.rejected() / total;
+        log.warn("{} de {} linhas do arquivo {} foram rejeitadas e gravadas em {}", rejects.rejected(), total,
+                fileName, rejects.key());
+
+        if (ratio > rejectFileWriter.getMaxRatio()) {
+            throw new ProcessingException(String.format(
+                    "Arquivo %s rejeitou %d de %d linhas, acima do limite de %.2f%%", fileName, rejects.rejected(),
+                    total, rejectFileWriter.getMaxRatio() * 100));
+        }
+    }
+
+    private RuntimeException handleFailure(String fileName, Exception exception) {
+        return switch (exception) {
+            case FileNotFoundException notFound -> {
+                log.error("Arquivo não encontrado: {}", fileName, notFound);
+                yield notFound;
+            }
+            case ProcessingException processing -> {
+                log.error("Erro ao processar arquivo: {}", fileName, processing);
+                yield processing;
+            }
+            default -> {
+                log.error("Erro inesperado ao processar arquivo: {}", fileName, exception);
+                yield new ProcessingException("Erro inesperado ao processar arquivo: " + fileName, exception);
+            }
+        };
+    }
+
+    private byte[] readCsvFileFromS3(String fileName, FileMetrics metrics) {
         log.info("Lendo arquivo do S3: {}", fileName);
 
+        var startedAt = System.nanoTime();
         var fileContent = s3Bucket.readFileAsBytes(fileName);
+        metrics.addStageTime(Stage.S3_READ, System.nanoTime() - startedAt);
 
         if (fileContent.isEmpty()) {
             throw new FileNotFoundException("Arquivo não encontrado no S3: " + fileName);
         }
 
+        metrics.increment(Counter.BYTES_READ, fileContent.get().length);
         log.info("Arquivo lido com sucesso do S3: {}", fileName);
         return fileContent.get();
     }
 
-    private List<Book> parseCsvToBooks(byte[] csvData) {
+    private StreamingResult streamFromStart(String fileName, FileMetrics metrics, RejectFile rejects)
+            throws IOException {
+        try (var inputStream = new MeteredInputStream(openCsvFileStreamFromS3(fileName), metrics);
+                var books = openBookReader(inputStream, rejects)) {
+            log.info("Iniciando salvamento em streaming dos livros no DynamoDB");
+            var chunk = new Chunk(books, inputStream, metrics, Long.MAX_VALUE, Deadline.none(), rejects);
+            saveBookEntities(bookDeduplicator.deduplicate(chunk), metrics, rejects);
+            return new StreamingResult(fileName, chunk.rows(), !parseNext(books::hasNext, inputStream, metrics));
+        }
+    }
+
+    private StreamingResult streamWithCheckpoints(String fileName, Deadline deadline, FileMetrics metrics,
+            RejectFile rejects) throws IOException {
+        var metadata = s3Bucket.describeFile(fileName)
+                .orElseThrow(() -> new FileNotFoundException("Arquivo não encontrado no S3: " + fileName));
+        var checkpoint = findCheckpoint(metadata);
+        var resumeFromOffset = checkpoint.filter(saved -> saved.hasOffset() && !metadata.gzipped());
+        var baseOffset = resumeFromOffset.map(saved -> saved.offset() - saved.headerLength()).orElse(0L);
+        var rowsToSkip = resumeFromOffset.isEmpty() ? checkpoint.map(Checkpoint::rows).orElse(0L) : 0L;
+        var rows = resumeFromOffset.map(Checkpoint::rows).orElse(0L);
+        var skippedLines = resumeFromOffset.map(Checkpoint::lines).orElse(0L);
+        var deduplicationWindow = bookDeduplicator.openWindow();
+
+        try (var inputStream = new MeteredInputStream(openCsvFileStreamFromS3(fileName, metadata, resumeFromOffset),
+                metrics);
+                var books = openBookReader(inputStream, rejects, skippedLines)) {
+            rows += skipRows(books, rowsToSkip, inputStream, metrics);
+            log.info("Iniciando salvamento em streaming dos livros no DynamoDB a partir da linha {}", rows);
+
+            while (!deadline.reached() && parseNext(books::hasNext, inputStream, metrics)) {
+                var chunk = new Chunk(books, inputStream, metrics, checkpointRepository.getIntervalRows(), deadline,
+                        rejects);
+                saveBookEntities(deduplicationWindow.deduplicate(chunk), metrics, rejects);
+                rows += chunk.rows();
+
+                var offset = metadata.gzipped() || books.committedOffset() == BookReader.UNKNOWN_OFFSET
+                        ? BookReader.UNKNOWN_OFFSET
+                        : baseOffset + books.committedOffset();
+                checkpointRepository.save(new Checkpoint(metadata.key(), metadata.eTag(), offset, rows,
+                        books.headerLength(), books.committedLines()));
+            }
+
+            var completed = !parseNext(books::hasNext, inputStream, metrics);
+            if (completed) {
+                checkpointRepository.delete(metadata.key());
+            }
+            return new StreamingResult(fileName, rows, completed);
+        }
+    }
+
+    private BookReader openBookReader(InputStream inputStream, RejectFile rejects) {
+        return openBookReader(inputStream, rejects, 0);
+    }
+
+    private BookReader openBookReader(InputStream inputStream, RejectFile rejects, long skippedLines) {
+        return csvService.openBookReader(inputStream, rejects.isEnabled() ? rejects::rejectRow : null, skippedLines);
+    }
+
+    private Optional<Checkpoint> findCheckpoint(S3ObjectMetadata metadata) {
+        var checkpoint = checkpointRepository.find(metadata.key());
+
+        if (checkpoint.isPresent() && !checkpoint.get().eTag().equals(metadata.eTag())) {
+            log.warn("Arquivo {} foi alterado desde o último checkpoint; reiniciando do começo", metadata.key());
+            checkpointRepository.delete(metadata.key());
+            return Optional.empty();
+        }
+
+        checkpoint.ifPresent(saved -> log.info("Retomando arquivo {} a partir do checkpoint: linhas={}, deslocamento={}",
+                metadata.key(), saved.rows(), saved.offset()));
+        return checkpoint;
+    }
+
+    private long skipRows(BookReader books, long rowsToSkip, MeteredInputStream inputStream, FileMetrics metrics) {
+        var skipped = 0L;
+        while (skipped < rowsToSkip && parseNext(books::hasNext, inputStream, metrics)) {
+            parseNext(books::next, inputStream, metrics);
+            skipped++;
+        }
+
+        if (skipped > 0) {
+            log.info("{} linhas já processadas foram ignoradas durante a retomada", skipped);
+        }
+        return skipped;
+    }
+
+    private InputStream openCsvFileStreamFromS3(String fileName) {
+        log.info("Abrindo arquivo do S3 em streaming: {}", fileName);
+
+        return s3Bucket.openFileAsRangedStream(fileName)
+                .orElseThrow(() -> new FileNotFoundException("Arquivo não encontrado no S3: " + fileName));
+    }
+
+    private InputStream openCsvFileStreamFromS3(String fileName, S3ObjectMetadata metadata,
+            Optional<Checkpoint> resumeFrom) {
+        if (resumeFrom.isEmpty()) {
+            log.info("Abrindo arquivo do S3 em streaming: {}", fileName);
+            return s3Bucket.openFileFromOffset(metadata, 0)
+                    .orElseThrow(() -> new FileNotFoundException("Arquivo não encontrado no S3: " + fileName));
+        }
+
+        var checkpoint = resumeFrom.get();
+        log.info("Abrindo arquivo do S3 em streaming a partir do byte {}: {}", checkpoint.offset(), fileName);
+        var header = s3Bucket.readRange(metadata, 0, checkpoint.headerLength())
+                .orElseThrow(() -> new ProcessingException("Erro ao ler cabeçalho do arquivo: " + fileName));
+        var remaining = s3Bucket.openFileFromOffset(metadata, checkpoint.offset())
+                .orElseThrow(() -> new FileNotFoundException("Arquivo não encontrado no S3: " + fileName));
+        return new SequenceInputStream(new ByteArrayInputStream(header), remaining);
+    }
+
+    private List<Book> parseCsvToBooks(byte[] csvData, FileMetrics metrics) {
         log.info("Iniciando parsing do CSV para lista de livros");
 
         try {
+            var startedAt = System.nanoTime();
             var books = csvService.parseCsvToBooks(csvData);
+            metrics.addStageTime(Stage.CSV_PARSE, System.nanoTime() - startedAt);
+            metrics.increment(Counter.ROWS, books.size());
 
             if (books.isEmpty()) {
                 log.warn("Nenhum livro encontrado no arquivo CSV");
@@ -78,31 +287,132 @@ public class BookApplication {
         }
     }
 
-    private void saveBooksToDynamo(List<Book> books) {
+    private void saveBooksToDynamo(List<Book> books, FileMetrics metrics) {
         log.info("Iniciando salvamento de {} livros no DynamoDB", books.size());
 
-        try {
-            books.stream()
-                    .map(bookMapper::toEntity)
-                    .forEach(this::saveBookEntity);
+        Iterable<BookEntity> entities = () -> books.stream()
+                .map(book -> toEntity(book, metrics))
+                .iterator();
+        saveBookEntities(bookDeduplicator.deduplicate(entities), metrics, RejectFile.disabled());
+    }
 
-            log.info("Todos os livros foram salvos com sucesso no DynamoDB");
+    private <T> T parseNext(Supplier<T> step, MeteredInputStream inputStream, FileMetrics metrics) {
+        var startedAt = System.nanoTime();
+        var readBefore = inputStream.readNanos();
+
+        try {
+            return step.get();
         } catch (Exception exception) {
-            throw new ProcessingException("Erro ao salvar livros no DynamoDB", exception);
+            throw new ProcessingException("Erro ao fazer parsing do CSV", exception);
+        } finally {
+            var readDuring = inputStream.readNanos() - readBefore;
+            metrics.addStageTime(Stage.CSV_PARSE, System.nanoTime() - startedAt - readDuring);
         }
     }
 
-    private void saveBookEntity(BookEntity entity) {
+    private BookEntity toEntity(Book book, FileMetrics metrics) {
+        var startedAt = System.nanoTime();
+        var entity = bookMapper.toEntity(book);
+        metrics.addStageTime(Stage.MAPPING, System.nanoTime() - startedAt);
+        return entity;
+    }
+
+    private BatchWriteSummary saveBookEntities(BookDeduplicator.Deduplication deduplication, FileMetrics metrics,
+            RejectFile rejects) {
+        BatchWriteSummary summary;
         try {
-            bookRepository.save(entity);
-            log.debug("Livro salvo: autor={}, genero={}", entity.getAuthor(), entity.getGenre());
+            summary = bookWriter.write(deduplication, metrics);
+        } catch (ProcessingException exception) {
+            throw exception;
         } catch (Exception exception) {
-            log.error("Erro ao salvar livro: autor={}, genero={}",
-                    entity.getAuthor(), entity.getGenre(), exception);
-            throw new ProcessingException(
-                    String.format("Erro ao salvar livro: autor=%s, genero=%s",
-                            entity.getAuthor(), entity.getGenre()),
-                    exception);
+            throw new ProcessingException("Erro ao salvar livros no DynamoDB", exception);
+        }
+
+        metrics.increment(Counter.ITEMS_WRITTEN, summary.written());
+        metrics.increment(Counter.ITEMS_SKIPPED, summary.skipped());
+        metrics.increment(Counter.ITEMS_COLLAPSED, deduplication.collapsed() + summary.collapsed());
+        metrics.increment(Counter.ITEMS_FAILED, summary.failed());
+        metrics.increment(Counter.WRITE_RETRIES, summary.retried());
+        metrics.increment(Counter.WRITE_THROTTLES, summary.throttled());
+
+        if (summary.failed() > 0 && rejects.isEnabled()) {
+            var reason = String.format("falha ao gravar no DynamoDB após %d reenvios", summary.retried());
+            summary.failedItems().forEach(entity -> rejects.reject(bookMapper.toDomain(entity), reason));
+        } else if (summary.failed() > 0) {
+            summary.failedItems().forEach(entity -> log.error("Erro ao salvar livro: autor={}, genero={}",
+                    entity.getAuthor(), entity.getGenre()));
+            throw new ProcessingException(String.format(
+                    "Erro ao salvar %d livros no DynamoDB após %d reenvios", summary.failed(), summary.retried()));
+        }
+
+        log.info("Todos os livros foram salvos com sucesso no DynamoDB. gravados={}, sem alteração={}, reenviados={}, "
+                + "descartados por chave repetida={}", summary.written(), summary.skipped(), summary.retried(),
+                deduplication.collapsed() + summary.collapsed());
+        return summary;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private final class Chunk implements Iterable<BookEntity> {
+
+        private final BookReader books;
+        private final MeteredInputStream inputStream;
+        private final FileMetrics metrics;
+        private final long maxRows;
+        private final Deadline deadline;
+        private final RejectFile rejects;
+        private long rows;
+
+        private Chunk(BookReader books, MeteredInputStream inputStream, FileMetrics metrics, long maxRows,
+                Deadline deadline, RejectFile rejects) {
+            this.books = books;
+            this.inputStream = inputStream;
+            this.metrics = metrics;
+            this.maxRows = maxRows;
+            this.deadline = deadline;
+            this.rejects = rejects;
+        }
+
+        private long rows() {
+            return rows;
+        }
+
+        @Override
+        public Iterator<BookEntity> iterator() {
+            return new Iterator<>() {
+                private BookEntity next;
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null
+                            && rows < maxRows
+                            && (rows == 0 || !deadline.reached())
+                            && parseNext(books::hasNext, inputStream, metrics)) {
+                        var book = parseNext(books::next, inputStream, metrics);
+                        rows++;
+                        metrics.increment(Counter.ROWS, 1);
+
+                        if (rejects.isEnabled() && (isBlank(book.getAuthor()) || isBlank(book.getGenre()))) {
+                            rejects.reject(book, "autor ou gênero vazio");
+                        } else {
+                            next = toEntity(book, metrics);
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public BookEntity next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    var entity = next;
+                    next = null;
+                    return entity;
+                }
+            };
         }
     }
 }
@@ -0,0 +1,165 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.BookKey;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+@Singleton
+public class BookDeduplicator {
+
+    private final DedupPolicy policy;
+    private final int window;
+
+    @Inject
+    public BookDeduplicator(Configuration configuration) {
+        this(DedupPolicy.from(configuration.getDedupPolicy()), configuration.getDedupWindow());
+    }
+
+    public BookDeduplicator(DedupPolicy policy, int window) {
+        this.policy = policy;
+        this.window = Math.max(1, window);
+    }
+
+    public Deduplication deduplicate(Iterable<BookEntity> entities) {
+        return openWindow().deduplicate(entities);
+    }
+
+    public Window openWindow() {
+        return new Window();
+    }
+
+    public final class Window {
+
+        private final Map<BookKey, Boolean> seenKeys = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BookKey, Boolean> eldest) {
+                return size() > window;
+            }
+        };
+
+        private Window() {
+        }
+
+        public Deduplication deduplicate(Iterable<BookEntity> entities) {
+            return new Deduplication(entities.iterator(), seenKeys);
+        }
+    }
+
+    public final class Deduplication implements Iterable<BookEntity> {
+
+        private final Iterator<BookEntity> source;
+        private final Map<BookKey, Boolean> seenKeys;
+        private long collapsed;
+        private boolean consumed;
+
+        private Deduplication(Iterator<BookEntity> source, Map<BookKey, Boolean> seenKeys) {
+            this.source = source;
+            this.seenKeys = seenKeys;
+        }
+
+        public long collapsed() {
+            return collapsed;
+        }
+
+        @Override
+        public Iterator<BookEntity> iterator() {
+            if (consumed) {
+                throw new IllegalStateException("A deduplicação só pode ser percorrida uma vez");
+            }
+
+            consumed = true;
+            return switch (policy) {
+                case NONE -> source;
+                case FIRST_WINS -> new FirstWinsIterator();
+                case LAST_WINS -> new LastWinsIterator();
+            };
+        }
+
+        private final class FirstWinsIterator implements Iterator<BookEntity> {
+
+            private BookEntity ready;
+
+            @Override
+            public boolean hasNext() {
+                while (ready == null && source.hasNext()) {
+                    var entity = source.next();
+                    if (seenKeys.put(BookKey.of(entity), Boolean.TRUE) == null) {
+                        ready = entity;
+                    } else {
+                        collapsed++;
+                    }
+                }
+                return ready != null;
+            }
+
+            @Override
+            public BookEntity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var entity = ready;
+                ready = null;
+                return entity;
+            }
+        }
+
+        private final class LastWinsIterator implements Iterator<BookEntity> {
+
+            private final LinkedHashMap<BookKey, BookEntity> pending = new LinkedHashMap<>();
+            private BookEntity ready;
+
+            @Override
+            public boolean hasNext() {
+                while (ready == null) {
+                    if (source.hasNext()) {
+                        offer(source.next());
+                    } else if (!pending.isEmpty()) {
+                        ready = pollEldest();
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public BookEntity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var entity = ready;
+                ready = null;
+                return entity;
+            }
+
+            private void offer(BookEntity entity) {
+                var key = BookKey.of(entity);
+                if (pending.remove(key) != null) {
+                    collapsed++;
+                }
+
+                pending.put(key, entity);
+                if (pending.size() > window) {
+                    ready = pollEldest();
+                }
+            }
+
+            private BookEntity pollEldest() {
+                var eldest = pending.entrySet().iterator();
+                var entity = eldest.next().getValue();
+                eldest.remove();
+                return entity;
+            }
+        }
+    }
+}
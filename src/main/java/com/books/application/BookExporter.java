@@ -0,0 +1,196 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.domain.book.BookMapper;
+import com.books.domain.csv.BookCsvWriter;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.s3.MultipartUpload;
+import com.books.repository.s3.S3Bucket;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Singleton
+public class BookExporter {
+
+    private static final int RECORD_HEADROOM = 64 * 1024;
+
+    private final BookRepository bookRepository;
+    private final S3Bucket s3Bucket;
+    private final BookMapper bookMapper;
+    private final int segments;
+    private final int partSizeBytes;
+    private final String prefix;
+
+    @Inject
+    public BookExporter(BookRepository bookRepository, S3Bucket s3Bucket, BookMapper bookMapper,
+            Configuration configuration) {
+        this(bookRepository, s3Bucket, bookMapper, Math.max(1, configuration.getExportSegments()),
+                Math.max(MultipartUpload.MIN_PART_SIZE, configuration.getExportPartSizeBytes()),
+                configuration.getExportPrefix());
+    }
+
+    BookExporter(BookRepository bookRepository, S3Bucket s3Bucket, BookMapper bookMapper, int segments,
+            int partSizeBytes, String prefix) {
+        this.bookRepository = bookRepository;
+        this.s3Bucket = s3Bucket;
+        this.bookMapper = bookMapper;
+        this.segments = segments;
+        this.partSizeBytes = partSizeBytes;
+        this.prefix = prefix;
+    }
+
+    public ExportSummary export(String exportName) {
+        var fileName = prefix + exportName;
+        log.info("Iniciando exportação da tabela para o arquivo: {} ({} segmentos)", fileName, segments);
+
+        var upload = s3Bucket.startMultipartUpload(fileName)
+                .orElseThrow(() -> new ProcessingException("Não foi possível iniciar o upload do arquivo: " + fileName));
+        var export = new Export(upload);
+
+        try {
+            export.flushRemainders(export.scanSegments());
+            upload.complete();
+        } catch (Exception exception) {
+            upload.abort();
+            log.error("Erro ao exportar livros para o arquivo: {}", fileName, exception);
+            throw exception instanceof ProcessingException processingException
+                    ? processingException
+                    : new ProcessingException("Erro ao exportar livros para o arquivo: " + fileName, exception);
+        }
+
+        var summary = new ExportSummary(export.rows.sum(), upload.uploadedParts(), export.bytes.sum());
+        log.info("Exportação concluída com sucesso. arquivo={}, livros={}, partes={}, bytes={}", fileName,
+                summary.rows(), summary.parts(), summary.bytes());
+        return summary;
+    }
+
+    private final class Export {
+
+        private final MultipartUpload upload;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private Export(MultipartUpload upload) {
+            this.upload = upload;
+        }
+
+        private List<PartBuffer> scanSegments() {
+            var remainders = new ArrayList<PartBuffer>(segments);
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var futures = new ArrayList<Future<PartBuffer>>(segments);
+                for (var segment = 0; segment < segments; segment++) {
+                    var current = segment;
+                    futures.add(executor.submit(() -> exportSegment(current)));
+                }
+
+                try {
+                    for (var future : futures) {
+                        remainders.add(await(future));
+                    }
+                } catch (RuntimeException exception) {
+                    executor.shutdownNow();
+                    throw exception;
+                }
+            }
+
+            return remainders;
+        }
+
+        private PartBuffer exportSegment(int segment) {
+            var buffer = new PartBuffer(partSizeBytes + RECORD_HEADROOM);
+
+            try (var books = bookRepository.scanSegment(segment, segments)) {
+                books.forEach(entity -> {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new ProcessingException("Exportação interrompida no segmento " + segment);
+                    }
+
+                    BookCsvWriter.writeRecord(bookMapper.toDomain(entity), buffer);
+                    rows.increment();
+
+                    if (buffer.size() >= partSizeBytes) {
+                        uploadPart(buffer);
+                        buffer.reset();
+                    }
+                });
+            }
+
+            return buffer;
+        }
+
+        private void flushRemainders(List<PartBuffer> remainders) {
+            var tail = new PartBuffer(partSizeBytes + RECORD_HEADROOM);
+
+            for (var remainder : remainders) {
+                tail.append(remainder);
+                if (tail.size() >= partSizeBytes) {
+                    uploadPart(tail);
+                    tail.reset();
+                }
+            }
+
+            if (tail.size() > 0 || upload.uploadedParts() == 0) {
+                uploadPart(tail);
+            }
+        }
+
+        private void uploadPart(PartBuffer buffer) {
+            var partNumber = upload.nextPartNumber();
+            InputStream content = buffer.toInputStream();
+            long length = buffer.size();
+
+            if (partNumber == 1) {
+                content = new SequenceInputStream(new ByteArrayInputStream(BookCsvWriter.HEADER), content);
+                length += BookCsvWriter.HEADER.length;
+            }
+
+            upload.uploadPart(partNumber, content, length);
+            bytes.add(length);
+        }
+
+        private PartBuffer await(Future<PartBuffer> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException("Exportação interrompida", exception);
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ProcessingException("Erro ao exportar segmento da tabela", exception.getCause());
+            }
+        }
+    }
+
+    private static final class PartBuffer extends ByteArrayOutputStream {
+
+        private PartBuffer(int capacity) {
+            super(capacity);
+        }
+
+        private void append(PartBuffer other) {
+            write(other.buf, 0, other.count);
+        }
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.core.metrics.FileMetrics;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BatchWriteSummary;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.entity.BookEntity;
+
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Singleton
+public class ConcurrentBookWriter {
+
+    private final BookRepository bookRepository;
+    private final Semaphore inFlightRequests;
+
+    public ConcurrentBookWriter(BookRepository bookRepository, Configuration configuration) {
+        this.bookRepository = bookRepository;
+        this.inFlightRequests = new Semaphore(Math.clamp(configuration.getWriteConcurrency(), 1,
+                Math.max(1, configuration.getHttpMaxConnections())));
+    }
+
+    public BatchWriteSummary write(Iterable<BookEntity> entities, FileMetrics metrics) {
+        var write = new ConcurrentWrite(metrics);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            write.submitAll(entities, executor);
+        }
+
+        var rateLimiter = bookRepository.getWriteRateLimiter();
+        if (rateLimiter.isEnabled()) {
+            metrics.recordWriteRate(rateLimiter.currentRate());
+        }
+        return write.result();
+    }
+
+    private final class ConcurrentWrite {
+
+        private final FileMetrics metrics;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final BatchWriteSummary.Accumulator summary = BatchWriteSummary.accumulator();
+
+        private ConcurrentWrite(FileMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        private void submitAll(Iterable<BookEntity> entities, ExecutorService executor) {
+            var batch = new ArrayList<BookEntity>(BookRepository.MAX_BATCH_WRITE_SIZE);
+
+            try {
+                var iterator = entities.iterator();
+                var submitted = true;
+
+                while (submitted && iterator.hasNext()) {
+                    batch.add(iterator.next());
+
+                    if (batch.size() == BookRepository.MAX_BATCH_WRITE_SIZE || !iterator.hasNext()) {
+                        submitted = submit(List.copyOf(batch), executor);
+                        batch.clear();
+                    }
+                }
+            } catch (RuntimeException exception) {
+                executor.shutdownNow();
+                throw exception;
+            }
+        }
+
+        private boolean submit(List<BookEntity> batch, ExecutorService executor) {
+            acquirePermit();
+
+            if (failure.get() != null) {
+                inFlightRequests.release();
+                return false;
+            }
+
+            try {
+                executor.execute(() -> writeBatch(batch, executor));
+                return true;
+            } catch (RejectedExecutionException exception) {
+                inFlightRequests.release();
+                return false;
+            }
+        }
+
+        private void writeBatch(List<BookEntity> batch, ExecutorService executor) {
+            try {
+                var startedAt = System.nanoTime();
+                var batchSummary = bookRepository.saveAll(batch);
+                metrics.recordBatchWrite(System.nanoTime() - startedAt);
+                accumulate(batchSummary);
+            } catch (Throwable throwable) {
+                if (failure.compareAndSet(null, throwable)) {
+                    log.error("Falha ao gravar lote de {} livros; cancelando escritas pendentes", batch.size(),
+                            throwable);
+                    executor.shutdownNow();
+                }
+            } finally {
+                inFlightRequests.release();
+            }
+        }
+
+        private synchronized void accumulate(BatchWriteSummary batchSummary) {
+            summary.add(batchSummary);
+        }
+
+        private void acquirePermit() {
+            try {
+                inFlightRequests.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException("Escrita no DynamoDB interrompida", exception);
+            }
+        }
+
+        private synchronized BatchWriteSummary result() {
+            var cause = failure.get();
+            if (cause instanceof ProcessingException processingException) {
+                throw processingException;
+            }
+            if (cause != null) {
+                throw new ProcessingException("Erro ao salvar livros no DynamoDB", cause);
+            }
+            return summary.toSummary();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.books.application;
+
+import java.util.function.LongSupplier;
+
+public record Deadline(LongSupplier remainingMillis, long safetyMarginMillis) {
+
+    public static Deadline none() {
+        return new Deadline(() -> Long.MAX_VALUE, 0);
+    }
+
+    public boolean reached() {
+        return remainingMillis.getAsLong() <= safetyMarginMillis;
+    }
+}
@@ -0,0 +1,21 @@
+package com.books.application;
+
+import java.util.Locale;
+
+public enum DedupPolicy {
+    NONE,
+    FIRST_WINS,
+    LAST_WINS;
+
+    public static DedupPolicy from(String value) {
+        if (value == null || value.isBlank()) {
+            return LAST_WINS;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Política de deduplicação desconhecida: " + value, exception);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.books.application;
+
+import java.util.Locale;
+
+public enum EtlEngine {
+    SYNC,
+    ASYNC;
+
+    public static EtlEngine from(String value) {
+        if (value == null || value.isBlank()) {
+            return SYNC;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Motor de processamento desconhecido: " + value, exception);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.books.application;
+
+public record ExportSummary(long rows, int parts, long bytes) {
+}
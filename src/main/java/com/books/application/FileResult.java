@@ -0,0 +1,17 @@
+package com.books.application;
+
+public record FileResult(String fileName, boolean succeeded, boolean completed, long durationMillis,
+        String error) {
+
+    static FileResult success(String fileName, long durationMillis) {
+        return new FileResult(fileName, true, true, durationMillis, null);
+    }
+
+    static FileResult interrupted(String fileName, long durationMillis) {
+        return new FileResult(fileName, true, false, durationMillis, null);
+    }
+
+    static FileResult failure(String fileName, long durationMillis, Exception exception) {
+        return new FileResult(fileName, false, false, durationMillis, exception.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.s3.S3Bucket;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Singleton
+public class PrefixProcessor {
+
+    private static final List<String> CSV_EXTENSIONS = List.of(".csv", ".csv.gz");
+
+    private final S3Bucket s3Bucket;
+    private final BookApplication bookApplication;
+    private final int maxConcurrentFiles;
+    private final List<String> excludedPrefixes;
+
+    @Inject
+    public PrefixProcessor(S3Bucket s3Bucket, BookApplication bookApplication, Configuration configuration) {
+        this(s3Bucket, bookApplication, Math.max(1, configuration.getPrefixMaxConcurrentFiles()),
+                List.of(configuration.getRejectsPrefix(), configuration.getExportPrefix()));
+    }
+
+    PrefixProcessor(S3Bucket s3Bucket, BookApplication bookApplication, int maxConcurrentFiles,
+            List<String> excludedPrefixes) {
+        this.s3Bucket = s3Bucket;
+        this.bookApplication = bookApplication;
+        this.maxConcurrentFiles = maxConcurrentFiles;
+        this.excludedPrefixes = excludedPrefixes.stream().filter(excluded -> !excluded.isBlank()).toList();
+    }
+
+    public PrefixSummary processPrefix(String prefix, Deadline deadline) {
+        var listedFiles = s3Bucket.listFiles(prefix)
+                .orElseThrow(() -> new ProcessingException("Erro ao listar arquivos do prefixo: " + prefix));
+        var fileNames = listedFiles.stream().filter(this::isCsvInput).toList();
+        if (fileNames.size() < listedFiles.size()) {
+            log.info("{} objetos do prefixo '{}' ignorados por não serem CSV ou por estarem sob os prefixos {}",
+                    listedFiles.size() - fileNames.size(), prefix, excludedPrefixes);
+        }
+        log.info("Iniciando processamento de {} arquivos do prefixo '{}' ({} em paralelo)", fileNames.size(), prefix,
+                maxConcurrentFiles);
+
+        try (var executor = Executors.newWorkStealingPool(maxConcurrentFiles)) {
+            var tasks = fileNames.stream()
+                    .<Callable<FileResult>>map(fileName -> () -> processFile(fileName, deadline))
+                    .toList();
+            var results = executor.invokeAll(tasks).stream()
+                    .map(PrefixProcessor::await)
+                    .toList();
+
+            var summary = new PrefixSummary(prefix, results);
+            log.info("Processamento do prefixo '{}' concluído. arquivos={}, sucesso={}, falha={}, interrompidos={}",
+                    prefix, results.size(), summary.succeeded(), summary.failed(), summary.interrupted());
+            return summary;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Processamento do prefixo interrompido: " + prefix, exception);
+        }
+    }
+
+    private FileResult processFile(String fileName, Deadline deadline) {
+        var startedAt = System.nanoTime();
+        if (deadline.reached()) {
+            log.warn("Tempo limite próximo; arquivo {} fica para a próxima tentativa", fileName);
+            return FileResult.interrupted(fileName, 0);
+        }
+
+        try {
+            var result = bookApplication.processCsvFileStreaming(fileName, deadline);
+            return result.completed()
+                    ? FileResult.success(fileName, elapsedMillis(startedAt))
+                    : FileResult.interrupted(fileName, elapsedMillis(startedAt));
+        } catch (Exception exception) {
+            log.error("Falha ao processar o arquivo {}; seguindo com os demais arquivos do prefixo", fileName,
+                    exception);
+            return FileResult.failure(fileName, elapsedMillis(startedAt), exception);
+        }
+    }
+
+    private boolean isCsvInput(String fileName) {
+        var lowerCase = fileName.toLowerCase(Locale.ROOT);
+        return CSV_EXTENSIONS.stream().anyMatch(lowerCase::endsWith)
+                && excludedPrefixes.stream().noneMatch(fileName::startsWith);
+    }
+
+    private static FileResult await(Future<FileResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Processamento do prefixo interrompido", exception);
+        } catch (ExecutionException exception) {
+            throw new ProcessingException("Erro inesperado ao processar arquivo do prefixo", exception.getCause());
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
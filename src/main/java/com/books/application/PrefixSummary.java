@@ -0,0 +1,22 @@
+package com.books.application;
+
+import java.util.List;
+
+public record PrefixSummary(String prefix, List<FileResult> files) {
+
+    public long succeeded() {
+        return files.stream().filter(FileResult::succeeded).count();
+    }
+
+    public long interrupted() {
+        return files.stream().filter(file -> file.succeeded() && !file.completed()).count();
+    }
+
+    public long failed() {
+        return files.size() - succeeded();
+    }
+
+    public List<FileResult> failures() {
+        return files.stream().filter(file -> !file.succeeded()).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.books.application;
+
+import com.books.domain.book.Book;
+import com.books.domain.csv.BookCsvWriter;
+import com.books.domain.csv.RejectedRow;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.s3.MultipartUpload;
+import com.books.repository.s3.S3Bucket;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+@Slf4j
+public final class RejectFile implements AutoCloseable {
+
+    private static final RejectFile DISABLED = new RejectFile(null, null);
+
+    private final S3Bucket s3Bucket;
+    private final String key;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private MultipartUpload upload;
+    private long rejected;
+    private long malformedRows;
+    private boolean closed;
+
+    RejectFile(S3Bucket s3Bucket, String key) {
+        this.s3Bucket = s3Bucket;
+        this.key = key;
+        buffer.writeBytes(BookCsvWriter.REJECTED_HEADER);
+    }
+
+    public static RejectFile disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return s3Bucket != null;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public long rejected() {
+        return rejected;
+    }
+
+    public long malformedRows() {
+        return malformedRows;
+    }
+
+    public void rejectRow(RejectedRow row) {
+        log.warn("Linha {} do CSV rejeitada: {}", row.line(), row.reason());
+        malformedRows++;
+        append(row.line(), row.reason(), null, row.content());
+    }
+
+    public void reject(Book book, String reason) {
+        log.warn("Linha {} do CSV rejeitada: {}", book.getLine(), reason);
+        append(book.getLine(), reason, book, null);
+    }
+
+    @Override
+    public void close() {
+        if (!isEnabled() || closed) {
+            return;
+        }
+        closed = true;
+
+        if (rejected == 0) {
+            return;
+        }
+
+        try {
+            uploadBuffer();
+            upload.complete();
+            log.info("Arquivo de rejeitados gravado no S3: {} ({} linhas)", key, rejected);
+        } catch (Exception exception) {
+            if (upload != null) {
+                upload.abort();
+            }
+            throw exception instanceof ProcessingException processingException
+                    ? processingException
+                    : new ProcessingException("Erro ao gravar arquivo de rejeitados: " + key, exception);
+        }
+    }
+
+    public void abort() {
+        if (!isEnabled() || closed) {
+            return;
+        }
+        closed = true;
+
+        if (upload != null) {
+            upload.abort();
+        }
+    }
+
+    private void append(long line, String reason, Book book, String content) {
+        if (!isEnabled()) {
+            throw new ProcessingException(String.format("Linha %d do CSV: %s", line, reason));
+        }
+
+        BookCsvWriter.writeRejectedRecord(line, reason, book, content, buffer);
+        rejected++;
+
+        if (buffer.size() >= MultipartUpload.MIN_PART_SIZE) {
+            uploadBuffer();
+        }
+    }
+
+    private void uploadBuffer() {
+        if (upload == null) {
+            upload = s3Bucket.startMultipartUpload(key).orElseThrow(() -> new ProcessingException(
+                    "Não foi possível iniciar o upload do arquivo de rejeitados: " + key));
+        }
+
+        var part = buffer.toByteArray();
+        buffer.reset();
+        upload.uploadPart(upload.nextPartNumber(), new ByteArrayInputStream(part), part.length);
+    }
+}
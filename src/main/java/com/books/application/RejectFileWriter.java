@@ -0,0 +1,38 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.repository.s3.S3Bucket;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+
+@Getter
+@Singleton
+public class RejectFileWriter {
+
+    private final S3Bucket s3Bucket;
+    private final boolean enabled;
+    private final String prefix;
+    private final double maxRatio;
+
+    @Inject
+    public RejectFileWriter(S3Bucket s3Bucket, Configuration configuration) {
+        this(s3Bucket, configuration.isRejectsEnabled(), configuration.getRejectsPrefix(),
+                configuration.getRejectsMaxRatio());
+    }
+
+    RejectFileWriter(S3Bucket s3Bucket, boolean enabled, String prefix, double maxRatio) {
+        this.s3Bucket = s3Bucket;
+        this.enabled = enabled;
+        this.prefix = prefix;
+        this.maxRatio = maxRatio;
+    }
+
+    public RejectFile open(String fileName) {
+        if (!enabled) {
+            return RejectFile.disabled();
+        }
+        return new RejectFile(s3Bucket, prefix + fileName + "." + System.currentTimeMillis() + ".csv");
+    }
+}
@@ -0,0 +1,4 @@
+package com.books.application;
+
+public record StreamingResult(String fileName, long rows, boolean completed) {
+}
@@ -0,0 +1,93 @@
+package com.books.application.flow;
+
+import com.books.core.metrics.FileMetrics;
+import com.books.repository.dynamo.AsyncBookRepository;
+import com.books.repository.dynamo.BatchWriteSummary;
+import com.books.repository.dynamo.entity.BookEntity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public final class AsyncBatchWriter implements Flow.Subscriber<List<BookEntity>> {
+
+    private final AsyncBookRepository bookRepository;
+    private final int maxInFlight;
+    private final FileMetrics metrics;
+    private final CompletableFuture<BatchWriteSummary> result = new CompletableFuture<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean upstreamDone;
+    private final BatchWriteSummary.Accumulator summary = BatchWriteSummary.accumulator();
+
+    public AsyncBatchWriter(AsyncBookRepository bookRepository, int maxInFlight, FileMetrics metrics) {
+        this.bookRepository = bookRepository;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.metrics = metrics;
+    }
+
+    public CompletableFuture<BatchWriteSummary> result() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(maxInFlight);
+    }
+
+    @Override
+    public void onNext(List<BookEntity> batch) {
+        inFlight.incrementAndGet();
+        var startedAt = System.nanoTime();
+
+        CompletableFuture<BatchWriteSummary> write;
+        try {
+            write = bookRepository.saveBatch(batch);
+        } catch (RuntimeException exception) {
+            write = CompletableFuture.failedFuture(exception);
+        }
+
+        write.whenComplete((batchSummary, exception) -> {
+            metrics.recordBatchWrite(System.nanoTime() - startedAt);
+            if (exception != null) {
+                log.error("Falha ao gravar lote de {} livros; cancelando o pipeline", batch.size(), exception);
+                subscription.cancel();
+                result.completeExceptionally(exception);
+                return;
+            }
+
+            accumulate(batchSummary);
+            inFlight.decrementAndGet();
+            if (!tryFinish()) {
+                subscription.request(1);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        tryFinish();
+    }
+
+    private synchronized void accumulate(BatchWriteSummary batchSummary) {
+        summary.add(batchSummary);
+    }
+
+    private synchronized boolean tryFinish() {
+        if (upstreamDone && inFlight.get() == 0) {
+            result.complete(summary.toSummary());
+            return true;
+        }
+        return false;
+    }
+}
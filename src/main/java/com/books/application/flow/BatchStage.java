@@ -0,0 +1,61 @@
+package com.books.application.flow;
+
+import com.books.application.DedupPolicy;
+import com.books.core.metrics.FileMetrics;
+import com.books.core.metrics.FileMetrics.Stage;
+import com.books.domain.book.Book;
+import com.books.domain.book.BookMapper;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.BookKey;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class BatchStage extends FlowStage<Book, List<BookEntity>> {
+
+    private final BookMapper bookMapper;
+    private final DedupPolicy dedupPolicy;
+    private final FileMetrics metrics;
+    private final LinkedHashMap<BookKey, BookEntity> batch = new LinkedHashMap<>();
+    private long collapsed;
+
+    public BatchStage(BookMapper bookMapper, DedupPolicy dedupPolicy, FileMetrics metrics) {
+        this.bookMapper = bookMapper;
+        this.dedupPolicy = dedupPolicy;
+        this.metrics = metrics;
+    }
+
+    public long collapsed() {
+        return collapsed;
+    }
+
+    @Override
+    protected void onItem(Book book, Consumer<List<BookEntity>> emit) {
+        var startedAt = System.nanoTime();
+        var entity = bookMapper.toEntity(book);
+        metrics.addStageTime(Stage.MAPPING, System.nanoTime() - startedAt);
+
+        var key = BookKey.of(entity);
+        var previous = dedupPolicy == DedupPolicy.FIRST_WINS
+                ? batch.putIfAbsent(key, entity)
+                : batch.put(key, entity);
+        if (previous != null) {
+            collapsed++;
+        }
+
+        if (batch.size() == BookRepository.MAX_BATCH_WRITE_SIZE) {
+            emit.accept(List.copyOf(batch.values()));
+            batch.clear();
+        }
+    }
+
+    @Override
+    protected void onEnd(Consumer<List<BookEntity>> emit) {
+        if (!batch.isEmpty()) {
+            emit.accept(List.copyOf(batch.values()));
+            batch.clear();
+        }
+    }
+}
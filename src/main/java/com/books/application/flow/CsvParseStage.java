@@ -0,0 +1,52 @@
+package com.books.application.flow;
+
+import com.books.core.metrics.FileMetrics;
+import com.books.core.metrics.FileMetrics.Counter;
+import com.books.core.metrics.FileMetrics.Stage;
+import com.books.domain.book.Book;
+import com.books.domain.csv.BookCsvParser;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+public final class CsvParseStage extends FlowStage<ByteBuffer, Book> {
+
+    private final BookCsvParser parser;
+    private final FileMetrics metrics;
+    private byte[] chunk = new byte[0];
+    private long rows;
+
+    public CsvParseStage(BookCsvParser parser, FileMetrics metrics) {
+        this.parser = parser;
+        this.metrics = metrics;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    protected void onItem(ByteBuffer buffer, Consumer<Book> emit) {
+        var length = buffer.remaining();
+        if (chunk.length < length) {
+            chunk = new byte[length];
+        }
+        buffer.get(chunk, 0, length);
+        metrics.increment(Counter.BYTES_READ, length);
+
+        var startedAt = System.nanoTime();
+        parser.feed(chunk, 0, length, book -> accept(book, emit));
+        metrics.addStageTime(Stage.CSV_PARSE, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    protected void onEnd(Consumer<Book> emit) {
+        parser.finish(book -> accept(book, emit));
+    }
+
+    private void accept(Book book, Consumer<Book> emit) {
+        rows++;
+        metrics.increment(Counter.ROWS, 1);
+        emit.accept(book);
+    }
+}
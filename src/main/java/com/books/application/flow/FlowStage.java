@@ -0,0 +1,158 @@
+package com.books.application.flow;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public abstract class FlowStage<I, O> implements Flow.Processor<I, O>, Flow.Subscription {
+
+    private final Queue<O> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super O> downstream;
+    private volatile boolean awaitingUpstream;
+    private volatile boolean upstreamDone;
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+    private boolean terminated;
+
+    protected abstract void onItem(I item, Consumer<O> emit);
+
+    protected void onEnd(Consumer<O> emit) {
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        if (downstream != null) {
+            throw new IllegalStateException("O estágio aceita apenas um assinante");
+        }
+
+        downstream = subscriber;
+        subscriber.onSubscribe(this);
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(I item) {
+        try {
+            onItem(item, ready::add);
+        } catch (RuntimeException exception) {
+            upstream.cancel();
+            fail(exception);
+            return;
+        }
+
+        awaitingUpstream = false;
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            onEnd(ready::add);
+        } catch (RuntimeException exception) {
+            fail(exception);
+            return;
+        }
+
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            fail(new IllegalArgumentException("Demanda deve ser positiva: " + n));
+            return;
+        }
+
+        demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        ready.clear();
+        var subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        failure = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    private void drain() {
+        if (pendingDrains.getAndIncrement() != 0) {
+            return;
+        }
+
+        var missed = 1;
+        do {
+            var subscriber = downstream;
+            if (subscriber != null && !terminated && !cancelled) {
+                emit(subscriber);
+            }
+            missed = pendingDrains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super O> subscriber) {
+        while (failure == null && demand.get() > 0) {
+            var next = ready.poll();
+            if (next == null) {
+                break;
+            }
+
+            demand.decrementAndGet();
+            subscriber.onNext(next);
+            if (cancelled) {
+                return;
+            }
+        }
+
+        if (failure != null) {
+            terminated = true;
+            ready.clear();
+            subscriber.onError(failure);
+            return;
+        }
+
+        var done = upstreamDone;
+        if (!ready.isEmpty()) {
+            return;
+        }
+
+        if (done) {
+            terminated = true;
+            subscriber.onComplete();
+        } else if (demand.get() > 0 && !awaitingUpstream && upstream != null) {
+            awaitingUpstream = true;
+            upstream.request(1);
+        }
+    }
+}
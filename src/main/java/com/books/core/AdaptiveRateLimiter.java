@@ -0,0 +1,135 @@
+package com.books.core;
+
+import com.books.domain.exception.ProcessingException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public final class AdaptiveRateLimiter {
+
+    private static final double MIN_RATE = 1.0;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_FRACTION = 0.05;
+    private static final long ADJUSTMENT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final double targetRate;
+    private final double increaseStep;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private final LongAdder throttles = new LongAdder();
+
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long lastIncreaseAt;
+    private long lastDecreaseAt;
+
+    public AdaptiveRateLimiter(double targetRate) {
+        this(targetRate, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    AdaptiveRateLimiter(double targetRate, LongSupplier clock, Sleeper sleeper) {
+        this.targetRate = Math.max(0, targetRate);
+        this.increaseStep = Math.max(MIN_RATE, this.targetRate * INCREASE_FRACTION);
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.rate = this.targetRate;
+        this.tokens = this.targetRate;
+
+        var now = clock.getAsLong();
+        this.refilledAt = now;
+        this.lastIncreaseAt = now;
+        this.lastDecreaseAt = now - ADJUSTMENT_INTERVAL_NANOS;
+    }
+
+    public boolean isEnabled() {
+        return targetRate > 0;
+    }
+
+    public void acquire(double units) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill(clock.getAsLong());
+                var required = Math.min(units, rate);
+                if (tokens >= required) {
+                    tokens -= units;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((required - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+            }
+            pause(waitNanos);
+        }
+    }
+
+    public synchronized void onConsumed(double estimatedUnits, double consumedUnits) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        var now = clock.getAsLong();
+        refill(now);
+        tokens -= consumedUnits - estimatedUnits;
+
+        if (rate < targetRate && now - lastIncreaseAt >= ADJUSTMENT_INTERVAL_NANOS
+                && now - lastDecreaseAt >= ADJUSTMENT_INTERVAL_NANOS) {
+            rate = Math.min(targetRate, rate + increaseStep);
+            lastIncreaseAt = now;
+        }
+    }
+
+    public synchronized void onThrottle() {
+        throttles.increment();
+        if (!isEnabled()) {
+            return;
+        }
+
+        var now = clock.getAsLong();
+        if (now - lastDecreaseAt < ADJUSTMENT_INTERVAL_NANOS) {
+            return;
+        }
+
+        refill(now);
+        rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+        tokens = Math.min(tokens, rate);
+        lastDecreaseAt = now;
+        lastIncreaseAt = now;
+        log.warn("Throttling na escrita do DynamoDB; taxa reduzida para {} WCU/s (alvo {} WCU/s)",
+                Math.round(rate), Math.round(targetRate));
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    public long throttleCount() {
+        return throttles.sum();
+    }
+
+    private void refill(long now) {
+        var elapsedSeconds = (double) (now - refilledAt) / TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(rate, tokens + elapsedSeconds * rate);
+        refilledAt = now;
+    }
+
+    private void pause(long nanos) {
+        try {
+            sleeper.sleep(nanos);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Espera do limitador de escrita interrompida", exception);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.books.core;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Singleton
+public final class AwsClientFactory implements AutoCloseable {
+
+    private final HttpClientSettings settings;
+    private final List<AutoCloseable> resources = new ArrayList<>();
+    private DynamoDbClient dynamoDbClient;
+    private DynamoDbEnhancedClient dynamoDbEnhancedClient;
+    private S3Client s3Client;
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+    private DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient;
+    private S3AsyncClient s3AsyncClient;
+
+    @Inject
+    public AwsClientFactory(Configuration configuration) {
+        this(HttpClientSettings.from(configuration));
+    }
+
+    public AwsClientFactory(HttpClientSettings settings) {
+        this.settings = settings;
+    }
+
+    public HttpClientSettings getSettings() {
+        return settings;
+    }
+
+    public synchronized DynamoDbClient dynamoDbClient() {
+        if (dynamoDbClient == null) {
+            var builder = DynamoDbClient.builder().httpClient(httpClient());
+            if (settings.endpointOverride() != null) {
+                builder.endpointOverride(settings.endpointOverride());
+            }
+            dynamoDbClient = register(builder.build());
+        }
+        return dynamoDbClient;
+    }
+
+    public synchronized DynamoDbEnhancedClient dynamoDbEnhancedClient() {
+        if (dynamoDbEnhancedClient == null) {
+            dynamoDbEnhancedClient = DynamoDbEnhancedClient.builder()
+                    .dynamoDbClient(dynamoDbClient())
+                    .build();
+        }
+        return dynamoDbEnhancedClient;
+    }
+
+    public synchronized S3Client s3Client() {
+        if (s3Client == null) {
+            var builder = S3Client.builder().httpClient(httpClient());
+            if (settings.endpointOverride() != null) {
+                builder.endpointOverride(settings.endpointOverride()).forcePathStyle(true);
+            }
+            s3Client = register(builder.build());
+        }
+        return s3Client;
+    }
+
+    public synchronized DynamoDbAsyncClient dynamoDbAsyncClient() {
+        if (dynamoDbAsyncClient == null) {
+            var builder = DynamoDbAsyncClient.builder().httpClient(asyncHttpClient());
+            if (settings.endpointOverride() != null) {
+                builder.endpointOverride(settings.endpointOverride());
+            }
+            dynamoDbAsyncClient = register(builder.build());
+        }
+        return dynamoDbAsyncClient;
+    }
+
+    public synchronized DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient() {
+        if (dynamoDbEnhancedAsyncClient == null) {
+            dynamoDbEnhancedAsyncClient = DynamoDbEnhancedAsyncClient.builder()
+                    .dynamoDbClient(dynamoDbAsyncClient())
+                    .build();
+        }
+        return dynamoDbEnhancedAsyncClient;
+    }
+
+    public synchronized S3AsyncClient s3AsyncClient() {
+        if (s3AsyncClient == null) {
+            var builder = S3AsyncClient.builder().httpClient(asyncHttpClient());
+            if (settings.endpointOverride() != null) {
+                builder.endpointOverride(settings.endpointOverride()).forcePathStyle(true);
+            }
+            s3AsyncClient = register(builder.build());
+        }
+        return s3AsyncClient;
+    }
+
+    public void prewarm(String s3Bucket) {
+        var connections = settings.prewarmConnections();
+        if (connections == 0) {
+            return;
+        }
+
+        var startedAt = System.nanoTime();
+        var dynamoDb = dynamoDbClient();
+        var s3 = s3Client();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var index = 0; index < connections; index++) {
+                executor.execute(() -> quietly(() -> dynamoDb.describeEndpoints(request -> { })));
+                executor.execute(() -> quietly(() -> s3.headBucket(request -> request.bucket(s3Bucket))));
+            }
+        }
+
+        log.info("{} conexões abertas por serviço ({}) em {} ms", connections, settings.type(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public synchronized void close() {
+        for (var resource : resources.reversed()) {
+            try {
+                resource.close();
+            } catch (Exception exception) {
+                log.warn("Falha ao fechar cliente AWS", exception);
+            }
+        }
+        resources.clear();
+        dynamoDbClient = null;
+        dynamoDbEnhancedClient = null;
+        s3Client = null;
+        dynamoDbAsyncClient = null;
+        dynamoDbEnhancedAsyncClient = null;
+        s3AsyncClient = null;
+    }
+
+    private SdkHttpClient httpClient() {
+        var httpClient = switch (settings.type()) {
+            case APACHE -> ApacheHttpClient.builder()
+                    .maxConnections(settings.maxConnections())
+                    .connectionTimeout(settings.connectionTimeout())
+                    .socketTimeout(settings.socketTimeout())
+                    .connectionMaxIdleTime(settings.connectionMaxIdleTime())
+                    .tcpKeepAlive(settings.tcpKeepAlive())
+                    .build();
+            case URL_CONNECTION -> UrlConnectionHttpClient.builder()
+                    .connectionTimeout(settings.connectionTimeout())
+                    .socketTimeout(settings.socketTimeout())
+                    .build();
+        };
+        return register(httpClient);
+    }
+
+    private SdkAsyncHttpClient asyncHttpClient() {
+        return register(NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(settings.maxConnections())
+                .connectionTimeout(settings.connectionTimeout())
+                .readTimeout(settings.socketTimeout())
+                .writeTimeout(settings.socketTimeout())
+                .connectionMaxIdleTime(settings.connectionMaxIdleTime())
+                .tcpKeepAlive(settings.tcpKeepAlive())
+                .build());
+    }
+
+    private <T extends AutoCloseable> T register(T resource) {
+        resources.add(resource);
+        return resource;
+    }
+
+    private static void quietly(Runnable request) {
+        try {
+            request.run();
+        } catch (Exception exception) {
+            log.debug("Requisição de aquecimento falhou; a conexão permanece aberta", exception);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.books.core;
+
+import com.books.domain.exception.ProcessingException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class Backoff {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public Backoff(long baseDelayMillis, long maxDelayMillis) {
+        this.baseDelayMillis = Math.max(0, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+    }
+
+    public long delayMillis(int attempt) {
+        var exponent = Math.min(Math.max(attempt, 0), 30);
+        var ceiling = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public void pause(int attempt) {
+        var delay = delayMillis(attempt);
+        if (delay == 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Espera entre tentativas interrompida", exception);
+        }
+    }
+}
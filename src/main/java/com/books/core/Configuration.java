@@ -16,9 +16,91 @@ public final class Configuration {
     private static final String CONFIG_FILE = "application.properties";
     private static final String S3_URL_KEY = "s3.url";
     private static final String DYNAMODB_TABLE_BOOKS_KEY = "dynamodb.table.books";
+    private static final String BATCH_WRITE_MAX_ATTEMPTS_KEY = "dynamodb.batch-write.max-attempts";
+    private static final String BATCH_WRITE_BASE_DELAY_KEY = "dynamodb.batch-write.base-delay-ms";
+    private static final String BATCH_WRITE_MAX_DELAY_KEY = "dynamodb.batch-write.max-delay-ms";
+    private static final String WRITE_TARGET_WCU_KEY = "dynamodb.write.target-wcu";
+    private static final String BATCH_GET_CONCURRENCY_KEY = "dynamodb.batch-get.concurrency";
+    private static final String SKIP_UNCHANGED_KEY = "dynamodb.write.skip-unchanged";
+    private static final String WRITE_CONCURRENCY_KEY = "dynamodb.write.concurrency";
+    private static final String S3_RANGE_SIZE_KEY = "s3.range.size-bytes";
+    private static final String S3_RANGE_CONCURRENCY_KEY = "s3.range.concurrency";
+    private static final String CACHE_ENABLED_KEY = "dynamodb.cache.enabled";
+    private static final String CACHE_MAX_ENTRIES_KEY = "dynamodb.cache.max-entries";
+    private static final String CACHE_TTL_KEY = "dynamodb.cache.ttl-ms";
+    private static final String CACHE_NEGATIVE_TTL_KEY = "dynamodb.cache.negative-ttl-ms";
+    private static final String EXPORT_SEGMENTS_KEY = "export.scan.segments";
+    private static final String EXPORT_PART_SIZE_KEY = "export.part-size-bytes";
+    private static final String EXPORT_PREFIX_KEY = "export.prefix";
+    private static final String CSV_PARSER_KEY = "csv.parser";
+    private static final String CSV_DICTIONARY_MAX_ENTRIES_KEY = "csv.dictionary.max-entries";
+    private static final String CSV_PARSE_PARALLELISM_KEY = "csv.parse.parallelism";
+    private static final String DEDUP_POLICY_KEY = "etl.dedup.policy";
+    private static final String DEDUP_WINDOW_KEY = "etl.dedup.window";
+    private static final String PREFIX_MAX_CONCURRENT_FILES_KEY = "etl.prefix.max-concurrent-files";
+    private static final String METRICS_ENABLED_KEY = "metrics.enabled";
+    private static final String METRICS_NAMESPACE_KEY = "metrics.namespace";
+    private static final String HTTP_CLIENT_KEY = "aws.http.client";
+    private static final String HTTP_MAX_CONNECTIONS_KEY = "aws.http.max-connections";
+    private static final String HTTP_CONNECTION_TIMEOUT_KEY = "aws.http.connection-timeout-ms";
+    private static final String HTTP_SOCKET_TIMEOUT_KEY = "aws.http.socket-timeout-ms";
+    private static final String HTTP_CONNECTION_MAX_IDLE_KEY = "aws.http.connection-max-idle-ms";
+    private static final String HTTP_TCP_KEEP_ALIVE_KEY = "aws.http.tcp-keep-alive";
+    private static final String HTTP_PREWARM_CONNECTIONS_KEY = "aws.http.prewarm-connections";
+    private static final String ENDPOINT_OVERRIDE_KEY = "aws.endpoint-override";
+    private static final String ENGINE_KEY = "etl.engine";
+    private static final String CHECKPOINT_ENABLED_KEY = "etl.checkpoint.enabled";
+    private static final String CHECKPOINT_TABLE_KEY = "dynamodb.table.checkpoints";
+    private static final String CHECKPOINT_INTERVAL_ROWS_KEY = "etl.checkpoint.interval-rows";
+    private static final String CHECKPOINT_SAFETY_MARGIN_KEY = "etl.checkpoint.safety-margin-ms";
+    private static final String REJECTS_ENABLED_KEY = "etl.rejects.enabled";
+    private static final String REJECTS_PREFIX_KEY = "etl.rejects.prefix";
+    private static final String REJECTS_MAX_RATIO_KEY = "etl.rejects.max-ratio";
+    private static final String REJECTS_RESYNC_UNCLOSED_QUOTES_KEY = "etl.rejects.resync-unclosed-quotes";
 
     private final String s3Url;
     private final String booksTableName;
+    private final int batchWriteMaxAttempts;
+    private final long batchWriteBaseDelayMillis;
+    private final long batchWriteMaxDelayMillis;
+    private final int writeTargetCapacityUnits;
+    private final int batchGetConcurrency;
+    private final boolean skipUnchanged;
+    private final int writeConcurrency;
+    private final int s3RangeSizeBytes;
+    private final int s3RangeConcurrency;
+    private final boolean cacheEnabled;
+    private final int cacheMaxEntries;
+    private final long cacheTtlMillis;
+    private final long cacheNegativeTtlMillis;
+    private final int exportSegments;
+    private final int exportPartSizeBytes;
+    private final String exportPrefix;
+    private final String csvParser;
+    private final int csvDictionaryMaxEntries;
+    private final int csvParseParallelism;
+    private final String dedupPolicy;
+    private final int dedupWindow;
+    private final int prefixMaxConcurrentFiles;
+    private final boolean metricsEnabled;
+    private final String metricsNamespace;
+    private final String httpClient;
+    private final int httpMaxConnections;
+    private final long httpConnectionTimeoutMillis;
+    private final long httpSocketTimeoutMillis;
+    private final long httpConnectionMaxIdleMillis;
+    private final boolean httpTcpKeepAlive;
+    private final int httpPrewarmConnections;
+    private final String endpointOverride;
+    private final String engine;
+    private final boolean checkpointEnabled;
+    private final String checkpointTableName;
+    private final int checkpointIntervalRows;
+    private final long checkpointSafetyMarginMillis;
+    private final boolean rejectsEnabled;
+    private final String rejectsPrefix;
+    private final double rejectsMaxRatio;
+    private final boolean rejectsResyncUnclosedQuotes;
 
     public Configuration() {
         try (InputStream inputStream = Thread.currentThread().getContextClassLoader()
@@ -44,9 +126,100 @@ public final class Configuration {
 
             this.s3Url = s3Url;
             this.booksTableName = booksTableName;
+            this.batchWriteMaxAttempts = readInt(properties, BATCH_WRITE_MAX_ATTEMPTS_KEY, 8);
+            this.batchWriteBaseDelayMillis = readLong(properties, BATCH_WRITE_BASE_DELAY_KEY, 50);
+            this.batchWriteMaxDelayMillis = readLong(properties, BATCH_WRITE_MAX_DELAY_KEY, 2_000);
+            this.writeTargetCapacityUnits = readInt(properties, WRITE_TARGET_WCU_KEY, 0);
+            this.batchGetConcurrency = readInt(properties, BATCH_GET_CONCURRENCY_KEY, 8);
+            this.skipUnchanged = Boolean.parseBoolean(properties.getProperty(SKIP_UNCHANGED_KEY, "true").trim());
+            this.writeConcurrency = readInt(properties, WRITE_CONCURRENCY_KEY, 8);
+            this.s3RangeSizeBytes = readPositiveInt(properties, S3_RANGE_SIZE_KEY, 8 * 1024 * 1024);
+            this.s3RangeConcurrency = readPositiveInt(properties, S3_RANGE_CONCURRENCY_KEY, 4);
+            this.cacheEnabled = Boolean.parseBoolean(properties.getProperty(CACHE_ENABLED_KEY, "false").trim());
+            this.cacheMaxEntries = readInt(properties, CACHE_MAX_ENTRIES_KEY, 1_000);
+            this.cacheTtlMillis = readLong(properties, CACHE_TTL_KEY, 60_000);
+            this.cacheNegativeTtlMillis = readLong(properties, CACHE_NEGATIVE_TTL_KEY, 5_000);
+            this.exportSegments = readInt(properties, EXPORT_SEGMENTS_KEY, 4);
+            this.exportPartSizeBytes = readInt(properties, EXPORT_PART_SIZE_KEY, 8 * 1024 * 1024);
+            this.exportPrefix = properties.getProperty(EXPORT_PREFIX_KEY, "exportacoes/").trim();
+            this.csvParser = properties.getProperty(CSV_PARSER_KEY, "native").trim();
+            this.csvDictionaryMaxEntries = readInt(properties, CSV_DICTIONARY_MAX_ENTRIES_KEY, 4_096);
+            this.csvParseParallelism = readInt(properties, CSV_PARSE_PARALLELISM_KEY, 1);
+            this.dedupPolicy = properties.getProperty(DEDUP_POLICY_KEY, "last-wins").trim();
+            this.dedupWindow = readInt(properties, DEDUP_WINDOW_KEY, 10_000);
+            this.prefixMaxConcurrentFiles = readInt(properties, PREFIX_MAX_CONCURRENT_FILES_KEY, 4);
+            this.metricsEnabled = Boolean.parseBoolean(properties.getProperty(METRICS_ENABLED_KEY, "true").trim());
+            this.metricsNamespace = properties.getProperty(METRICS_NAMESPACE_KEY, "BooksEtl").trim();
+            this.httpClient = properties.getProperty(HTTP_CLIENT_KEY, "apache").trim();
+            this.httpMaxConnections = readInt(properties, HTTP_MAX_CONNECTIONS_KEY, 50);
+            this.httpConnectionTimeoutMillis = readLong(properties, HTTP_CONNECTION_TIMEOUT_KEY, 2_000);
+            this.httpSocketTimeoutMillis = readLong(properties, HTTP_SOCKET_TIMEOUT_KEY, 30_000);
+            this.httpConnectionMaxIdleMillis = readLong(properties, HTTP_CONNECTION_MAX_IDLE_KEY, 60_000);
+            this.httpTcpKeepAlive = Boolean.parseBoolean(
+                    properties.getProperty(HTTP_TCP_KEEP_ALIVE_KEY, "true").trim());
+            this.httpPrewarmConnections = readInt(properties, HTTP_PREWARM_CONNECTIONS_KEY, 0);
+            this.endpointOverride = properties.getProperty(ENDPOINT_OVERRIDE_KEY, "").trim();
+            this.engine = properties.getProperty(ENGINE_KEY, "sync").trim();
+            this.checkpointEnabled = Boolean.parseBoolean(
+                    properties.getProperty(CHECKPOINT_ENABLED_KEY, "true").trim());
+            this.checkpointTableName = properties.getProperty(CHECKPOINT_TABLE_KEY, "books-checkpoints").trim();
+            this.checkpointIntervalRows = readInt(properties, CHECKPOINT_INTERVAL_ROWS_KEY, 10_000);
+            this.checkpointSafetyMarginMillis = readLong(properties, CHECKPOINT_SAFETY_MARGIN_KEY, 5_000);
+            this.rejectsEnabled = Boolean.parseBoolean(properties.getProperty(REJECTS_ENABLED_KEY, "false").trim());
+            this.rejectsPrefix = properties.getProperty(REJECTS_PREFIX_KEY, "rejeitados/").trim();
+            this.rejectsMaxRatio = readDouble(properties, REJECTS_MAX_RATIO_KEY, 0.01);
+            this.rejectsResyncUnclosedQuotes = Boolean.parseBoolean(
+                    properties.getProperty(REJECTS_RESYNC_UNCLOSED_QUOTES_KEY, "false").trim());
         } catch (Exception ex) {
             log.error("Erro ao carregar configuracoes do arquivo {}", CONFIG_FILE, ex);
             throw new IllegalStateException("Não foi possível carregar as configurações da aplicação", ex);
         }
     }
+
+    private static int readInt(Properties properties, String key, int defaultValue) {
+        return Math.toIntExact(readLong(properties, key, defaultValue));
+    }
+
+    private static int readPositiveInt(Properties properties, String key, int defaultValue) {
+        var value = readInt(properties, key, defaultValue);
+        if (value <= 0) {
+            throw new IllegalStateException(
+                    String.format("Variável '%s' deve ser maior que zero: %d", key, value));
+        }
+        return value;
+    }
+
+    private static long readLong(Properties properties, String key, long defaultValue) {
+        return Optional.ofNullable(properties.getProperty(key))
+                .map(String::trim)
+                .filter(value -> !value.isBlank())
+                .map(value -> parseLong(key, value))
+                .orElse(defaultValue);
+    }
+
+    private static double readDouble(Properties properties, String key, double defaultValue) {
+        return Optional.ofNullable(properties.getProperty(key))
+                .map(String::trim)
+                .filter(value -> !value.isBlank())
+                .map(value -> parseDouble(key, value))
+                .orElse(defaultValue);
+    }
+
+    private static double parseDouble(String key, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalStateException(
+                    String.format("Variável '%s' com valor numérico inválido: %s", key, value), exception);
+        }
+    }
+
+    private static long parseLong(String key, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalStateException(
+                    String.format("Variável '%s' com valor numérico inválido: %s", key, value), exception);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.books.core;
+
+import java.net.URI;
+import java.time.Duration;
+
+public record HttpClientSettings(HttpClientType type, int maxConnections, Duration connectionTimeout,
+        Duration socketTimeout, Duration connectionMaxIdleTime, boolean tcpKeepAlive, int prewarmConnections,
+        URI endpointOverride) {
+
+    public static HttpClientSettings from(Configuration configuration) {
+        var endpointOverride = configuration.getEndpointOverride();
+        return new HttpClientSettings(
+                HttpClientType.from(configuration.getHttpClient()),
+                Math.max(1, configuration.getHttpMaxConnections()),
+                Duration.ofMillis(configuration.getHttpConnectionTimeoutMillis()),
+                Duration.ofMillis(configuration.getHttpSocketTimeoutMillis()),
+                Duration.ofMillis(configuration.getHttpConnectionMaxIdleMillis()),
+                configuration.isHttpTcpKeepAlive(),
+                Math.max(0, configuration.getHttpPrewarmConnections()),
+                endpointOverride == null || endpointOverride.isBlank() ? null : URI.create(endpointOverride));
+    }
+}
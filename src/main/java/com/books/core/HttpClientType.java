@@ -0,0 +1,20 @@
+package com.books.core;
+
+import java.util.Locale;
+
+public enum HttpClientType {
+    APACHE,
+    URL_CONNECTION;
+
+    public static HttpClientType from(String value) {
+        if (value == null || value.isBlank()) {
+            return APACHE;
+        }
+
+        try {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Cliente HTTP desconhecido: " + value, exception);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.books.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class FileMetrics {
+
+    public enum Stage {
+        S3_READ("S3ReadTime"),
+        CSV_PARSE("CsvParseTime"),
+        MAPPING("MappingTime"),
+        DYNAMODB_WRITE("DynamoDbWriteTime");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    public enum Counter {
+        ROWS("Rows"),
+        BYTES_READ("BytesRead"),
+        ITEMS_WRITTEN("ItemsWritten"),
+        ITEMS_SKIPPED("ItemsSkipped"),
+        ITEMS_COLLAPSED("ItemsCollapsed"),
+        ITEMS_FAILED("ItemsFailed"),
+        WRITE_RETRIES("WriteRetries"),
+        WRITE_THROTTLES("WriteThrottles"),
+        ROWS_REJECTED("RowsRejected");
+
+        private final String metricName;
+
+        Counter(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private final String fileName;
+    private final String pipeline;
+    private final long startedAt = System.nanoTime();
+    private final LongAdder[] stageNanos = newAdders(Stage.values().length);
+    private final LongAdder[] counters = newAdders(Counter.values().length);
+    private final Histogram batchWriteLatency = new Histogram();
+    private volatile double writeRate = Double.NaN;
+    private volatile long finishedAt;
+    private volatile boolean failed;
+
+    public FileMetrics(String fileName, String pipeline) {
+        this.fileName = fileName;
+        this.pipeline = pipeline;
+    }
+
+    public void addStageTime(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()].add(nanos);
+    }
+
+    public void increment(Counter counter, long amount) {
+        counters[counter.ordinal()].add(amount);
+    }
+
+    public void recordBatchWrite(long nanos) {
+        batchWriteLatency.record(nanos);
+        addStageTime(Stage.DYNAMODB_WRITE, nanos);
+    }
+
+    public void recordWriteRate(double unitsPerSecond) {
+        this.writeRate = unitsPerSecond;
+    }
+
+    public void finish(boolean succeeded) {
+        this.failed = !succeeded;
+        this.finishedAt = System.nanoTime();
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public String pipeline() {
+        return pipeline;
+    }
+
+    public boolean failed() {
+        return failed;
+    }
+
+    public long stageNanos(Stage stage) {
+        return stageNanos[stage.ordinal()].sum();
+    }
+
+    public long count(Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    public long totalNanos() {
+        return (finishedAt == 0 ? System.nanoTime() : finishedAt) - startedAt;
+    }
+
+    public double writeRate() {
+        return writeRate;
+    }
+
+    public Histogram batchWriteLatency() {
+        return batchWriteLatency;
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        var adders = new LongAdder[size];
+        for (var index = 0; index < size; index++) {
+            adders[index] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,40 @@
+package com.books.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Histogram {
+
+    static final int BUCKETS = 32;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+
+    public void record(long nanos) {
+        var micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+        var bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        totalNanos.add(nanos);
+    }
+
+    public long count() {
+        var count = 0L;
+        for (var bucket = 0; bucket < BUCKETS; bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    long countAt(int bucket) {
+        return counts.get(bucket);
+    }
+
+    static double representativeMillis(int bucket) {
+        return (1L << bucket) * 1.5 / 1_000;
+    }
+}
@@ -0,0 +1,43 @@
+package com.books.core.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class MeteredInputStream extends FilterInputStream {
+
+    private final FileMetrics metrics;
+    private long readNanos;
+
+    public MeteredInputStream(InputStream inputStream, FileMetrics metrics) {
+        super(inputStream);
+        this.metrics = metrics;
+    }
+
+    public long readNanos() {
+        return readNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        var startedAt = System.nanoTime();
+        var value = super.read();
+        record(startedAt, value == -1 ? 0 : 1);
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        var startedAt = System.nanoTime();
+        var read = super.read(buffer, offset, length);
+        record(startedAt, Math.max(read, 0));
+        return read;
+    }
+
+    private void record(long startedAt, int bytes) {
+        var elapsed = System.nanoTime() - startedAt;
+        readNanos += elapsed;
+        metrics.addStageTime(FileMetrics.Stage.S3_READ, elapsed);
+        metrics.increment(FileMetrics.Counter.BYTES_READ, bytes);
+    }
+}
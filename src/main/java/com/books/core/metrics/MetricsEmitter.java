@@ -0,0 +1,131 @@
+package com.books.core.metrics;
+
+import com.books.core.Configuration;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@Singleton
+public class MetricsEmitter {
+
+    private final String namespace;
+    private final boolean enabled;
+    private final PrintStream output;
+
+    @Inject
+    public MetricsEmitter(Configuration configuration) {
+        this(configuration.getMetricsNamespace(), configuration.isMetricsEnabled(), System.out);
+    }
+
+    public MetricsEmitter(String namespace, boolean enabled, PrintStream output) {
+        this.namespace = namespace;
+        this.enabled = enabled;
+        this.output = output;
+    }
+
+    public void emit(FileMetrics metrics) {
+        if (enabled) {
+            output.println(toEmf(metrics, System.currentTimeMillis()));
+        }
+    }
+
+    String toEmf(FileMetrics metrics, long timestamp) {
+        var definitions = new StringBuilder();
+        var values = new StringBuilder();
+
+        for (var stage : FileMetrics.Stage.values()) {
+            metric(definitions, values, stage.metricName(), "Milliseconds", millis(metrics.stageNanos(stage)));
+        }
+        metric(definitions, values, "TotalTime", "Milliseconds", millis(metrics.totalNanos()));
+
+        for (var counter : FileMetrics.Counter.values()) {
+            var unit = counter == FileMetrics.Counter.BYTES_READ ? "Bytes" : "Count";
+            metric(definitions, values, counter.metricName(), unit, Long.toString(metrics.count(counter)));
+        }
+
+        var totalSeconds = metrics.totalNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        var rowsPerSecond = totalSeconds == 0 ? 0 : metrics.count(FileMetrics.Counter.ROWS) / totalSeconds;
+        metric(definitions, values, "RowsPerSecond", "Count/Second", format(rowsPerSecond));
+
+        if (!Double.isNaN(metrics.writeRate())) {
+            metric(definitions, values, "WriteRateWcu", "Count/Second", format(metrics.writeRate()));
+        }
+
+        if (metrics.batchWriteLatency().count() > 0) {
+            metric(definitions, values, "BatchWriteLatency", "Milliseconds", histogram(metrics.batchWriteLatency()));
+        }
+
+        var json = new StringBuilder(1_024)
+                .append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":");
+        string(json, namespace)
+                .append(",\"Dimensions\":[[\"Pipeline\"]],\"Metrics\":[").append(definitions).append("]}]}")
+                .append(",\"Pipeline\":");
+        string(json, metrics.pipeline()).append(",\"FileName\":");
+        string(json, metrics.fileName()).append(",\"Status\":");
+        string(json, metrics.failed() ? "FAILED" : "SUCCEEDED");
+        return json.append(values).append('}').toString();
+    }
+
+    private static void metric(StringBuilder definitions, StringBuilder values, String name, String unit,
+            String value) {
+        if (!definitions.isEmpty()) {
+            definitions.append(',');
+        }
+        definitions.append("{\"Name\":\"").append(name).append("\",\"Unit\":\"").append(unit).append("\"}");
+        values.append(",\"").append(name).append("\":").append(value);
+    }
+
+    private static String histogram(Histogram histogram) {
+        var bucketValues = new StringBuilder();
+        var bucketCounts = new StringBuilder();
+
+        for (var bucket = 0; bucket < Histogram.BUCKETS; bucket++) {
+            var count = histogram.countAt(bucket);
+            if (count == 0) {
+                continue;
+            }
+            if (!bucketValues.isEmpty()) {
+                bucketValues.append(',');
+                bucketCounts.append(',');
+            }
+            bucketValues.append(format(Histogram.representativeMillis(bucket)));
+            bucketCounts.append(count);
+        }
+
+        return "{\"Values\":[" + bucketValues + "],\"Counts\":[" + bucketCounts + "]}";
+    }
+
+    private static String millis(long nanos) {
+        return format(nanos / 1_000_000.0);
+    }
+
+    private static String format(double value) {
+        return Double.toString(Math.round(value * 1_000) / 1_000.0);
+    }
+
+    private static StringBuilder string(StringBuilder json, String value) {
+        json.append('"');
+        for (var index = 0; index < value.length(); index++) {
+            var current = value.charAt(index);
+            switch (current) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (current < 0x20) {
+                        json.append(String.format("\\u%04x", (int) current));
+                    } else {
+                        json.append(current);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+}
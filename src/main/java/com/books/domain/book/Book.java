@@ -19,4 +19,6 @@ public class Book {
 
     @CsvBindByName(column = "periodo")
     private String period;
+
+    private long line;
 }
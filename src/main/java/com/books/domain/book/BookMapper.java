@@ -1,12 +1,22 @@
 package com.books.domain.book;
 
 import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.ContentHash;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "jakarta")
 public interface BookMapper {
 
+    @Mapping(target = "contentHash", ignore = true)
     BookEntity toEntity(Book book);
 
     Book toDomain(BookEntity entity);
+
+    @AfterMapping
+    default void fillContentHash(@MappingTarget BookEntity entity) {
+        entity.setContentHash(ContentHash.of(entity));
+    }
 }
@@ -0,0 +1,419 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+import com.books.domain.exception.ProcessingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+public final class BookCsvParser {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final int DEFAULT_DICTIONARY_ENTRIES = 4_096;
+    static final int MAX_QUOTED_BYTES_AFTER_LINE_BREAK = 64 * 1024;
+
+    private static final List<String> COLUMNS = List.of("titulo", "autor", "genero", "periodo");
+    private static final int TITLE = 0;
+    private static final int AUTHOR = 1;
+    private static final int GENRE = 2;
+    private static final int PERIOD = 3;
+    private static final int UNMAPPED = -1;
+    private static final String UNCLOSED_QUOTE = "campo entre aspas não foi fechado";
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private enum State {
+        FIELD_START,
+        UNQUOTED,
+        QUOTED,
+        QUOTE_IN_QUOTED
+    }
+
+    private final List<String> headerNames = new ArrayList<>();
+    private final String[] values = new String[COLUMNS.size()];
+    private final FieldDictionary[] dictionaries = new FieldDictionary[COLUMNS.size()];
+
+    private int[] slotByColumn;
+    private byte[] field = new byte[256];
+    private int fieldLength;
+    private int column;
+    private State state = State.FIELD_START;
+    private boolean recordHasContent;
+    private boolean skipLineFeed;
+    private boolean started;
+    private long line = 1;
+    private long recordLine = 1;
+    private long consumed;
+    private long recordEnd;
+    private long headerLength = -1;
+    private long headerLines;
+    private long linesAfterHeader;
+    private long quotedLineBreak = -1;
+    private int quotedLineCommas;
+    private final Consumer<RejectedRow> rejectedRows;
+    private final boolean resyncUnclosedQuotes;
+    private byte[] raw = new byte[256];
+    private int rawLength;
+    private long rawStart;
+    private byte[] replay;
+    private long replayStart;
+    private long replayLine;
+
+    public BookCsvParser() {
+        this(DEFAULT_DICTIONARY_ENTRIES);
+    }
+
+    public BookCsvParser(int dictionaryEntries) {
+        this(dictionaryEntries, null);
+    }
+
+    public BookCsvParser(int dictionaryEntries, Consumer<RejectedRow> rejectedRows) {
+        this(dictionaryEntries, rejectedRows, false);
+    }
+
+    public BookCsvParser(int dictionaryEntries, Consumer<RejectedRow> rejectedRows, boolean resyncUnclosedQuotes) {
+        this.rejectedRows = rejectedRows;
+        this.resyncUnclosedQuotes = rejectedRows != null && resyncUnclosedQuotes;
+        if (dictionaryEntries > 0) {
+            dictionaries[AUTHOR] = new FieldDictionary(dictionaryEntries);
+            dictionaries[GENRE] = new FieldDictionary(dictionaryEntries);
+            dictionaries[PERIOD] = new FieldDictionary(dictionaryEntries);
+        }
+    }
+
+    public void parse(InputStream inputStream, Consumer<Book> books) throws IOException {
+        var buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            feed(buffer, 0, read, books);
+        }
+        finish(books);
+    }
+
+    public void feed(byte[] buffer, int offset, int length, Consumer<Book> books) {
+        var position = offset;
+        var end = offset + length;
+
+        if (!started && length > 0) {
+            started = true;
+            if (hasByteOrderMark(buffer, offset, end)) {
+                position += 3;
+            }
+        }
+
+        var base = consumed - offset + 1;
+        for (; position < end; position++) {
+            process(buffer[position], books, base + position);
+        }
+        consumed += length;
+    }
+
+    public long recordEnd() {
+        return recordEnd;
+    }
+
+    public long headerLength() {
+        return headerLength;
+    }
+
+    boolean atRecordBoundary() {
+        return state == State.FIELD_START && column == 0 && !recordHasContent && !skipLineFeed && replay == null;
+    }
+
+    long linesAfterHeader() {
+        return line - headerLines;
+    }
+
+    void skipLines(long lines) {
+        if (slotByColumn == null) {
+            linesAfterHeader += lines;
+            return;
+        }
+        line += lines;
+        recordLine = line;
+    }
+
+    public void finish(Consumer<Book> books) {
+        if (state == State.QUOTED && rejectedRows != null && quotedLineBreak >= 0) {
+            rejectUpToQuotedLineBreak();
+        } else if (state == State.QUOTED) {
+            reject(UNCLOSED_QUOTE);
+            resetRecord();
+            return;
+        } else if (recordHasContent || column > 0) {
+            endField();
+            endRecord(books, consumed);
+        }
+
+        if (replay != null) {
+            replay(books);
+            finish(books);
+        }
+    }
+
+    private void process(byte current, Consumer<Book> books, long next) {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (current == LINE_FEED) {
+                return;
+            }
+        }
+
+        if (rejectedRows != null && slotByColumn != null) {
+            appendRaw(current, next);
+        }
+
+        switch (state) {
+            case FIELD_START -> onFieldStart(current, books, next);
+            case UNQUOTED -> onUnquoted(current, books, next);
+            case QUOTED -> onQuoted(current, next);
+            case QUOTE_IN_QUOTED -> onQuoteInQuoted(current, books, next);
+        }
+
+        if (replay != null) {
+            replay(books);
+        }
+    }
+
+    private void onFieldStart(byte current, Consumer<Book> books, long next) {
+        switch (current) {
+            case QUOTE -> {
+                recordHasContent = true;
+                state = State.QUOTED;
+            }
+            case COMMA -> {
+                recordHasContent = true;
+                endField();
+            }
+            case LINE_FEED, CARRIAGE_RETURN -> {
+                if (recordHasContent || column > 0) {
+                    endField();
+                }
+                endLine(current, books, next);
+            }
+            case ' ', '\t' -> {
+            }
+            default -> {
+                recordHasContent = true;
+                append(current);
+                state = State.UNQUOTED;
+            }
+        }
+    }
+
+    private void onUnquoted(byte current, Consumer<Book> books, long next) {
+        switch (current) {
+            case COMMA -> endField();
+            case LINE_FEED, CARRIAGE_RETURN -> {
+                endField();
+                endLine(current, books, next);
+            }
+            default -> append(current);
+        }
+    }
+
+    private void onQuoted(byte current, long next) {
+        if (current == QUOTE) {
+            state = State.QUOTE_IN_QUOTED;
+            return;
+        }
+
+        if (resyncUnclosedQuotes && quotedLineBreak >= 0
+                && next - quotedLineBreak > MAX_QUOTED_BYTES_AFTER_LINE_BREAK) {
+            rejectUpToQuotedLineBreak();
+            return;
+        }
+
+        if (current == COMMA) {
+            quotedLineCommas++;
+        } else if (current == LINE_FEED) {
+            if (quotedLineBreak >= 0 && looksLikeRecord(quotedLineCommas)) {
+                rejectUpToQuotedLineBreak();
+                return;
+            }
+
+            line++;
+            quotedLineCommas = 0;
+            if (quotedLineBreak < 0) {
+                quotedLineBreak = next;
+            }
+        }
+        append(current);
+    }
+
+    private boolean looksLikeRecord(int commas) {
+        return resyncUnclosedQuotes && slotByColumn != null && commas >= slotByColumn.length - 1;
+    }
+
+    private void onQuoteInQuoted(byte current, Consumer<Book> books, long next) {
+        switch (current) {
+            case QUOTE -> {
+                append(QUOTE);
+                state = State.QUOTED;
+            }
+            case COMMA -> endField();
+            case LINE_FEED, CARRIAGE_RETURN -> {
+                endField();
+                endLine(current, books, next);
+            }
+            default -> {
+                append(current);
+                state = State.UNQUOTED;
+            }
+        }
+    }
+
+    private void endLine(byte terminator, Consumer<Book> books, long next) {
+        if (column > 0) {
+            endRecord(books, next);
+        }
+
+        line++;
+        recordLine = line;
+        skipLineFeed = terminator == CARRIAGE_RETURN;
+        rawLength = 0;
+        quotedLineBreak = -1;
+        quotedLineCommas = 0;
+    }
+
+    private void append(byte current) {
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, field.length * 2);
+        }
+        field[fieldLength++] = current;
+    }
+
+    private void endField() {
+        if (slotByColumn == null) {
+            headerNames.add(decode().trim().toLowerCase(Locale.ROOT));
+        } else if (column < slotByColumn.length && slotByColumn[column] != UNMAPPED) {
+            var slot = slotByColumn[column];
+            values[slot] = dictionaries[slot] == null ? decode() : dictionaries[slot].intern(field, fieldLength);
+        }
+
+        column++;
+        fieldLength = 0;
+        state = State.FIELD_START;
+    }
+
+    private String decode() {
+        return new String(field, 0, fieldLength, StandardCharsets.UTF_8);
+    }
+
+    private void endRecord(Consumer<Book> books, long next) {
+        recordEnd = next;
+        if (slotByColumn == null) {
+            resolveHeader();
+            headerLength = next;
+            headerLines = line;
+            line += linesAfterHeader;
+        } else {
+            if (column != slotByColumn.length && resyncUnclosedQuotes && quotedLineBreak >= 0) {
+                rejectUpToQuotedLineBreak();
+            } else if (column != slotByColumn.length) {
+                reject(String.format("esperados %d campos, encontrados %d", slotByColumn.length, column));
+            } else {
+                books.accept(toBook());
+            }
+        }
+
+        Arrays.fill(values, null);
+        column = 0;
+        recordHasContent = false;
+    }
+
+    private void reject(String reason) {
+        reject(reason, rawLength);
+    }
+
+    private void reject(String reason, int rawEnd) {
+        if (rejectedRows == null || slotByColumn == null) {
+            throw new ProcessingException(String.format("Linha %d do CSV: %s", recordLine, reason));
+        }
+        rejectedRows.accept(new RejectedRow(recordLine, reason, rawText(rawEnd)));
+    }
+
+    private void rejectUpToQuotedLineBreak() {
+        var split = (int) (quotedLineBreak - rawStart);
+        reject(UNCLOSED_QUOTE, split);
+        replay = Arrays.copyOfRange(raw, split, rawLength);
+        replayStart = quotedLineBreak;
+        replayLine = recordLine + 1;
+    }
+
+    private void replay(Consumer<Book> books) {
+        var bytes = replay;
+        var start = replayStart;
+        replay = null;
+
+        resetRecord();
+        skipLineFeed = false;
+        line = replayLine;
+        recordLine = line;
+        for (var index = 0; index < bytes.length; index++) {
+            process(bytes[index], books, start + index + 1);
+        }
+    }
+
+    private void resetRecord() {
+        Arrays.fill(values, null);
+        column = 0;
+        fieldLength = 0;
+        recordHasContent = false;
+        state = State.FIELD_START;
+        rawLength = 0;
+        quotedLineBreak = -1;
+        quotedLineCommas = 0;
+    }
+
+    private void appendRaw(byte current, long next) {
+        if (rawLength == 0) {
+            rawStart = next - 1;
+        }
+        if (rawLength == raw.length) {
+            raw = Arrays.copyOf(raw, raw.length * 2);
+        }
+        raw[rawLength++] = current;
+    }
+
+    private String rawText(int end) {
+        while (end > 0 && (raw[end - 1] == LINE_FEED || raw[end - 1] == CARRIAGE_RETURN)) {
+            end--;
+        }
+        return new String(raw, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private void resolveHeader() {
+        slotByColumn = new int[headerNames.size()];
+        for (var index = 0; index < slotByColumn.length; index++) {
+            slotByColumn[index] = COLUMNS.indexOf(headerNames.get(index));
+        }
+        headerNames.clear();
+    }
+
+    private Book toBook() {
+        var book = new Book();
+        book.setTitle(values[TITLE]);
+        book.setAuthor(values[AUTHOR]);
+        book.setGenre(values[GENRE]);
+        book.setPeriod(values[PERIOD]);
+        book.setLine(recordLine);
+        return book;
+    }
+
+    private static boolean hasByteOrderMark(byte[] buffer, int offset, int end) {
+        return end - offset >= 3
+                && buffer[offset] == (byte) 0xEF
+                && buffer[offset + 1] == (byte) 0xBB
+                && buffer[offset + 2] == (byte) 0xBF;
+    }
+}
@@ -0,0 +1,88 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public final class BookCsvWriter {
+
+    public static final byte[] HEADER = "titulo,autor,genero,periodo\n".getBytes(StandardCharsets.UTF_8);
+    public static final byte[] REJECTED_HEADER =
+            "linha,motivo,titulo,autor,genero,periodo,conteudo\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte LINE_FEED = '\n';
+
+    private BookCsvWriter() {
+    }
+
+    public static void writeRecord(Book book, ByteArrayOutputStream output) {
+        writeField(book.getTitle(), output);
+        output.write(COMMA);
+        writeField(book.getAuthor(), output);
+        output.write(COMMA);
+        writeField(book.getGenre(), output);
+        output.write(COMMA);
+        writeField(book.getPeriod(), output);
+        output.write(LINE_FEED);
+    }
+
+    public static void writeRejectedRecord(long line, String reason, Book book, String content,
+            ByteArrayOutputStream output) {
+        writeField(Long.toString(line), output);
+        output.write(COMMA);
+        writeField(reason, output);
+        output.write(COMMA);
+        writeField(book == null ? null : book.getTitle(), output);
+        output.write(COMMA);
+        writeField(book == null ? null : book.getAuthor(), output);
+        output.write(COMMA);
+        writeField(book == null ? null : book.getGenre(), output);
+        output.write(COMMA);
+        writeField(book == null ? null : book.getPeriod(), output);
+        output.write(COMMA);
+        writeField(content, output);
+        output.write(LINE_FEED);
+    }
+
+    private static void writeField(String value, ByteArrayOutputStream output) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (!needsQuotes(value)) {
+            output.writeBytes(bytes);
+            return;
+        }
+
+        output.write(QUOTE);
+        for (var current : bytes) {
+            if (current == QUOTE) {
+                output.write(QUOTE);
+            }
+            output.write(current);
+        }
+        output.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+        var first = value.charAt(0);
+        if (first == ' ' || first == '\t') {
+            return true;
+        }
+
+        for (var index = 0; index < value.length(); index++) {
+            switch (value.charAt(index)) {
+                case '"', ',', '\n', '\r' -> {
+                    return true;
+                }
+                default -> {
+                }
+            }
+        }
+        return false;
+    }
+}
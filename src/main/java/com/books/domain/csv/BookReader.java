@@ -0,0 +1,19 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+
+import java.util.Iterator;
+
+public interface BookReader extends Iterator<Book>, AutoCloseable {
+
+    long UNKNOWN_OFFSET = -1;
+
+    long committedOffset();
+
+    long headerLength();
+
+    long committedLines();
+
+    @Override
+    void close();
+}
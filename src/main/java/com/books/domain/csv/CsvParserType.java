@@ -0,0 +1,20 @@
+package com.books.domain.csv;
+
+import java.util.Locale;
+
+public enum CsvParserType {
+    NATIVE,
+    OPENCSV;
+
+    public static CsvParserType from(String value) {
+        if (value == null || value.isBlank()) {
+            return NATIVE;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Parser de CSV desconhecido: " + value, exception);
+        }
+    }
+}
@@ -1,23 +1,118 @@
 package com.books.domain.csv;
 
+import com.books.core.Configuration;
 import com.books.domain.book.Book;
 import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Singleton
 public class CsvService {
 
+    private final CsvParserType parserType;
+    private final int dictionaryEntries;
+    private final ParallelBookParser parallelParser;
+    private final boolean resyncUnclosedQuotes;
+
+    public CsvService() {
+        this(CsvParserType.NATIVE);
+    }
+
+    @Inject
+    public CsvService(Configuration configuration) {
+        this(CsvParserType.from(configuration.getCsvParser()), configuration.getCsvDictionaryMaxEntries(),
+                configuration.getCsvParseParallelism(), configuration.isRejectsResyncUnclosedQuotes());
+    }
+
+    public CsvService(CsvParserType parserType) {
+        this(parserType, BookCsvParser.DEFAULT_DICTIONARY_ENTRIES);
+    }
+
+    public CsvService(CsvParserType parserType, int dictionaryEntries) {
+        this(parserType, dictionaryEntries, 1);
+    }
+
+    public CsvService(CsvParserType parserType, int dictionaryEntries, int parallelism) {
+        this(parserType, dictionaryEntries, parallelism, false);
+    }
+
+    public CsvService(CsvParserType parserType, int dictionaryEntries, int parallelism,
+            boolean resyncUnclosedQuotes) {
+        this.parserType = parserType;
+        this.dictionaryEntries = dictionaryEntries;
+        this.resyncUnclosedQuotes = resyncUnclosedQuotes;
+
+        var threads = parallelism <= 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        this.parallelParser = parserType == CsvParserType.NATIVE && threads > 1
+                ? new ParallelBookParser(threads, dictionaryEntries)
+                : null;
+    }
+
     public List<Book> parseCsvToBooks(byte[] csvData) {
-        var reader = createReader(csvData);
-        var csvToBean = buildCsvToBean(reader);
-        return parseCsv(csvToBean);
+        if (parserType == CsvParserType.OPENCSV) {
+            var reader = createReader(csvData);
+            var csvToBean = buildCsvToBean(reader);
+            return parseCsv(csvToBean);
+        }
+
+        if (parallelParser != null) {
+            return parallelParser.parse(csvData);
+        }
+
+        var books = new ArrayList<Book>();
+        var parser = newParser();
+        parser.feed(csvData, 0, csvData.length, books::add);
+        parser.finish(books::add);
+        return books;
+    }
+
+    public Stream<Book> streamCsvToBooks(InputStream inputStream) {
+        var reader = openBookReader(inputStream);
+        return toStream(reader).onClose(reader::close);
+    }
+
+    public BookReader openBookReader(InputStream inputStream) {
+        return openBookReader(inputStream, null);
+    }
+
+    public BookReader openBookReader(InputStream inputStream, Consumer<RejectedRow> rejectedRows) {
+        return openBookReader(inputStream, rejectedRows, 0);
+    }
+
+    public BookReader openBookReader(InputStream inputStream, Consumer<RejectedRow> rejectedRows,
+            long skippedLines) {
+        if (parserType == CsvParserType.OPENCSV) {
+            var reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+            return new OpenCsvBookReader(buildCsvToBean(reader).iterator(), reader);
+        }
+
+        var parser = new BookCsvParser(dictionaryEntries, rejectedRows, resyncUnclosedQuotes);
+        parser.skipLines(skippedLines);
+        return new NativeBookReader(inputStream, parser);
+    }
+
+    public BookCsvParser newParser() {
+        return new BookCsvParser(dictionaryEntries);
     }
 
     private InputStreamReader createReader(byte[] csvData) {
@@ -36,4 +131,143 @@ public class CsvService {
     private List<Book> parseCsv(CsvToBean<Book> csvToBean) {
         return csvToBean.parse();
     }
+
+    private Stream<Book> toStream(Iterator<Book> books) {
+        var spliterator = Spliterators.spliteratorUnknownSize(books, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static void closeUnchecked(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static final class NativeBookReader implements BookReader {
+
+        private final InputStream inputStream;
+        private final BookCsvParser parser;
+        private final byte[] buffer = new byte[BookCsvParser.BUFFER_SIZE];
+        private final List<Book> parsedBooks = new ArrayList<>();
+        private final Consumer<Book> collector = this::collect;
+        private long[] recordEnds = new long[256];
+        private long[] recordLines = new long[256];
+        private int position;
+        private long committedOffset;
+        private long committedLines;
+        private boolean finished;
+
+        private NativeBookReader(InputStream inputStream, BookCsvParser parser) {
+            this.inputStream = inputStream;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (position == parsedBooks.size() && !finished) {
+                parsedBooks.clear();
+                position = 0;
+                readNextChunk();
+            }
+            return position < parsedBooks.size();
+        }
+
+        @Override
+        public Book next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            committedOffset = recordEnds[position];
+            committedLines = recordLines[position];
+            return parsedBooks.set(position++, null);
+        }
+
+        @Override
+        public long committedOffset() {
+            return committedOffset;
+        }
+
+        @Override
+        public long headerLength() {
+            return parser.headerLength();
+        }
+
+        @Override
+        public long committedLines() {
+            return committedLines;
+        }
+
+        @Override
+        public void close() {
+            closeUnchecked(inputStream);
+        }
+
+        private void collect(Book book) {
+            var index = parsedBooks.size();
+            if (index == recordEnds.length) {
+                recordEnds = Arrays.copyOf(recordEnds, index * 2);
+                recordLines = Arrays.copyOf(recordLines, index * 2);
+            }
+            recordEnds[index] = parser.recordEnd();
+            recordLines[index] = parser.linesAfterHeader();
+            parsedBooks.add(book);
+        }
+
+        private void readNextChunk() {
+            try {
+                var read = inputStream.read(buffer);
+                if (read == -1) {
+                    finished = true;
+                    parser.finish(collector);
+                } else {
+                    parser.feed(buffer, 0, read, collector);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    private static final class OpenCsvBookReader implements BookReader {
+
+        private final Iterator<Book> books;
+        private final Closeable reader;
+
+        private OpenCsvBookReader(Iterator<Book> books, Closeable reader) {
+            this.books = books;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return books.hasNext();
+        }
+
+        @Override
+        public Book next() {
+            return books.next();
+        }
+
+        @Override
+        public long committedOffset() {
+            return UNKNOWN_OFFSET;
+        }
+
+        @Override
+        public long headerLength() {
+            return UNKNOWN_OFFSET;
+        }
+
+        @Override
+        public long committedLines() {
+            return UNKNOWN_OFFSET;
+        }
+
+        @Override
+        public void close() {
+            closeUnchecked(reader);
+        }
+    }
 }
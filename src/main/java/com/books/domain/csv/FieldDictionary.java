@@ -0,0 +1,79 @@
+package com.books.domain.csv;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class FieldDictionary {
+
+    static final int MAX_VALUE_LENGTH = 128;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxEntries;
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+
+    FieldDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    String intern(byte[] bytes, int length) {
+        if (length > MAX_VALUE_LENGTH) {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        var hash = hash(bytes, length);
+        var mask = keys.length - 1;
+        var index = hash & mask;
+
+        while (keys[index] != null) {
+            if (Arrays.equals(keys[index], 0, keys[index].length, bytes, 0, length)) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+
+        var value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        if (size < maxEntries) {
+            keys[index] = Arrays.copyOf(bytes, length);
+            values[index] = value;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        keys = new byte[oldKeys.length * 2][];
+        values = new String[oldValues.length * 2];
+        var mask = keys.length - 1;
+
+        for (var slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] == null) {
+                continue;
+            }
+            var index = hash(oldKeys[slot], oldKeys[slot].length) & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[slot];
+            values[index] = oldValues[slot];
+        }
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        var hash = 1;
+        for (var index = 0; index < length; index++) {
+            hash = 31 * hash + bytes[index];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,190 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+import com.books.domain.exception.ProcessingException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+final class ParallelBookParser {
+
+    static final int MIN_CHUNK_BYTES = 1024 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+    private static final Consumer<Book> IGNORE = book -> {
+    };
+    private static final Map<Integer, ForkJoinPool> SHARED_POOLS = new ConcurrentHashMap<>();
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int dictionaryEntries;
+    private final int minChunkBytes;
+
+    ParallelBookParser(int parallelism, int dictionaryEntries) {
+        this(SHARED_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new), parallelism, dictionaryEntries,
+                MIN_CHUNK_BYTES);
+    }
+
+    ParallelBookParser(ForkJoinPool pool, int parallelism, int dictionaryEntries, int minChunkBytes) {
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.dictionaryEntries = dictionaryEntries;
+        this.minChunkBytes = minChunkBytes;
+    }
+
+    ForkJoinPool pool() {
+        return pool;
+    }
+
+    List<Book> parse(byte[] csvData) {
+        var headerEnd = headerEnd(csvData);
+        var boundaries = boundaries(csvData, headerEnd);
+        if (boundaries.length <= 2) {
+            var books = new ArrayList<Book>();
+            var parser = new BookCsvParser(dictionaryEntries);
+            parser.feed(csvData, 0, csvData.length, books::add);
+            parser.finish(books::add);
+            return books;
+        }
+
+        var lineOffsets = lineOffsets(csvData, boundaries);
+        var tasks = new ArrayList<Callable<Chunk>>(boundaries.length - 1);
+        for (var index = 0; index < boundaries.length - 1; index++) {
+            var chunk = index;
+            tasks.add(() -> parseChunk(csvData, headerEnd, boundaries, lineOffsets[chunk], chunk));
+        }
+        return merge(csvData, boundaries, invokeAll(tasks));
+    }
+
+    private Chunk parseChunk(byte[] csvData, int headerEnd, int[] boundaries, long lineOffset, int index) {
+        var books = new ArrayList<Book>();
+        var parser = new BookCsvParser(dictionaryEntries);
+        var start = boundaries[index];
+        var end = boundaries[index + 1];
+
+        try {
+            parser.feed(csvData, 0, headerEnd, IGNORE);
+            parser.skipLines(lineOffset);
+            parser.feed(csvData, start, end - start, books::add);
+            if (end == csvData.length) {
+                parser.finish(books::add);
+            }
+            return new Chunk(books, parser, null);
+        } catch (RuntimeException exception) {
+            return new Chunk(books, parser, exception);
+        }
+    }
+
+    private List<Book> merge(byte[] csvData, int[] boundaries, List<Chunk> chunks) {
+        var books = new ArrayList<Book>(chunks.stream().mapToInt(chunk -> chunk.books().size()).sum());
+        var index = 0;
+
+        while (index < chunks.size()) {
+            var chunk = chunks.get(index++);
+            if (chunk.failure() != null) {
+                throw chunk.failure();
+            }
+            books.addAll(chunk.books());
+
+            var parser = chunk.parser();
+            while (index < chunks.size() && !parser.atRecordBoundary()) {
+                var start = boundaries[index];
+                var end = boundaries[++index];
+                parser.feed(csvData, start, end - start, books::add);
+                if (end == csvData.length) {
+                    parser.finish(books::add);
+                }
+            }
+        }
+        return books;
+    }
+
+    private long[] lineOffsets(byte[] csvData, int[] boundaries) {
+        var tasks = new ArrayList<Callable<Long>>(boundaries.length - 2);
+        for (var index = 0; index < boundaries.length - 2; index++) {
+            var start = boundaries[index];
+            var end = boundaries[index + 1];
+            tasks.add(() -> countLineFeeds(csvData, start, end));
+        }
+
+        var counts = invokeAll(tasks);
+        var offsets = new long[boundaries.length - 1];
+        for (var index = 1; index < offsets.length; index++) {
+            offsets[index] = offsets[index - 1] + counts.get(index - 1);
+        }
+        return offsets;
+    }
+
+    private int headerEnd(byte[] csvData) {
+        var parser = new BookCsvParser(0);
+        var end = 0;
+        do {
+            var next = nextRecordStart(csvData, end);
+            parser.feed(csvData, end, next - end, IGNORE);
+            end = next;
+        } while (end < csvData.length && !parser.atRecordBoundary());
+        return end;
+    }
+
+    private int[] boundaries(byte[] csvData, int headerEnd) {
+        var length = csvData.length - headerEnd;
+        var chunks = Math.min(parallelism, length / Math.max(1, minChunkBytes));
+
+        var boundaries = new int[Math.max(1, chunks) + 1];
+        var count = 0;
+        boundaries[count++] = headerEnd;
+        for (var index = 1; index < chunks; index++) {
+            var candidate = nextRecordStart(csvData, headerEnd + (int) ((long) length * index / chunks));
+            if (candidate > boundaries[count - 1] && candidate < csvData.length) {
+                boundaries[count++] = candidate;
+            }
+        }
+        boundaries[count++] = csvData.length;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        var results = new ArrayList<T>(tasks.size());
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Parsing paralelo do CSV interrompido", exception);
+        } catch (ExecutionException exception) {
+            throw new ProcessingException("Erro no parsing paralelo do CSV", exception.getCause());
+        }
+    }
+
+    private static int nextRecordStart(byte[] csvData, int from) {
+        for (var index = from; index < csvData.length; index++) {
+            if (csvData[index] == LINE_FEED) {
+                return index + 1;
+            }
+        }
+        return csvData.length;
+    }
+
+    private static long countLineFeeds(byte[] csvData, int start, int end) {
+        var count = 0L;
+        for (var index = start; index < end; index++) {
+            if (csvData[index] == LINE_FEED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private record Chunk(List<Book> books, BookCsvParser parser, RuntimeException failure) {
+    }
+}
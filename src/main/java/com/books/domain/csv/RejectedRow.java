@@ -0,0 +1,4 @@
+package com.books.domain.csv;
+
+public record RejectedRow(long line, String reason, String content) {
+}
@@ -0,0 +1,81 @@
+package com.books.repository.dynamo;
+
+import com.books.core.Backoff;
+import com.books.core.Configuration;
+import com.books.repository.dynamo.entity.BookEntity;
+
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+@Singleton
+public class AsyncBookRepository {
+
+    private final DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient;
+    private final DynamoDbAsyncTable<BookEntity> bookTable;
+    private final int maxAttempts;
+    private final Backoff backoff;
+
+    public AsyncBookRepository(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+            Configuration configuration) {
+        this.dynamoDbEnhancedAsyncClient = dynamoDbEnhancedAsyncClient;
+        this.bookTable = dynamoDbEnhancedAsyncClient.table(configuration.getBooksTableName(),
+                TableSchema.fromBean(BookEntity.class));
+        this.maxAttempts = Math.max(1, configuration.getBatchWriteMaxAttempts());
+        this.backoff = new Backoff(configuration.getBatchWriteBaseDelayMillis(),
+                configuration.getBatchWriteMaxDelayMillis());
+    }
+
+    public CompletableFuture<BatchWriteSummary> saveBatch(List<BookEntity> batch) {
+        if (batch.size() > BookRepository.MAX_BATCH_WRITE_SIZE) {
+            throw new IllegalArgumentException("Lote com mais de " + BookRepository.MAX_BATCH_WRITE_SIZE + " itens");
+        }
+        return writeBatch(List.copyOf(batch), batch.size(), 1, 0, 0);
+    }
+
+    private CompletableFuture<BatchWriteSummary> writeBatch(List<BookEntity> pending, long received, int attempt,
+            long retried, long throttled) {
+        return submitBatch(pending).thenCompose(unprocessed -> {
+            if (unprocessed.isEmpty()) {
+                return CompletableFuture.completedFuture(
+                        new BatchWriteSummary(received, 0, 0, retried, throttled, 0, List.of()));
+            }
+
+            if (attempt >= maxAttempts) {
+                return CompletableFuture.completedFuture(new BatchWriteSummary(received - unprocessed.size(), 0, 0,
+                        retried, throttled + 1, unprocessed.size(), List.copyOf(unprocessed)));
+            }
+
+            var delayed = CompletableFuture.delayedExecutor(backoff.delayMillis(attempt), TimeUnit.MILLISECONDS);
+            return CompletableFuture.supplyAsync(() -> unprocessed, delayed)
+                    .thenCompose(retry -> writeBatch(retry, received, attempt + 1, retried + retry.size(),
+                            throttled + 1));
+        });
+    }
+
+    private CompletableFuture<List<BookEntity>> submitBatch(List<BookEntity> pending) {
+        var writeBatchBuilder = WriteBatch.builder(BookEntity.class).mappedTableResource(bookTable);
+        pending.forEach(writeBatchBuilder::addPutItem);
+        var writeBatch = writeBatchBuilder.build();
+
+        return dynamoDbEnhancedAsyncClient.batchWriteItem(r -> r.writeBatches(writeBatch))
+                .handle((result, exception) -> {
+                    if (exception == null) {
+                        return result.unprocessedPutItemsForTable(bookTable);
+                    }
+                    var cause = exception instanceof CompletionException ? exception.getCause() : exception;
+                    if (cause instanceof ProvisionedThroughputExceededException) {
+                        return pending;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+}
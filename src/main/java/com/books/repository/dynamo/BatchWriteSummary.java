@@ -0,0 +1,48 @@
+package com.books.repository.dynamo;
+
+import com.books.repository.dynamo.entity.BookEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BatchWriteSummary(long written, long skipped, long collapsed, long retried, long throttled,
+        long failed, List<BookEntity> failedItems) {
+
+    public static BatchWriteSummary empty() {
+        return new BatchWriteSummary(0, 0, 0, 0, 0, 0, List.of());
+    }
+
+    public static Accumulator accumulator() {
+        return new Accumulator();
+    }
+
+    public static final class Accumulator {
+
+        private final List<BookEntity> failedItems = new ArrayList<>();
+        private long written;
+        private long skipped;
+        private long collapsed;
+        private long retried;
+        private long throttled;
+        private long failed;
+
+        private Accumulator() {
+        }
+
+        public Accumulator add(BatchWriteSummary summary) {
+            written += summary.written();
+            skipped += summary.skipped();
+            collapsed += summary.collapsed();
+            retried += summary.retried();
+            throttled += summary.throttled();
+            failed += summary.failed();
+            failedItems.addAll(summary.failedItems());
+            return this;
+        }
+
+        public BatchWriteSummary toSummary() {
+            return new BatchWriteSummary(written, skipped, collapsed, retried, throttled, failed,
+                    List.copyOf(failedItems));
+        }
+    }
+}
@@ -1,38 +1,435 @@
 package com.books.repository.dynamo;
 
+import com.books.core.AdaptiveRateLimiter;
+import com.books.core.Backoff;
 import com.books.core.Configuration;
+import com.books.domain.exception.ProcessingException;
 import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.BookKey;
 
 import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
+@Slf4j
 @Singleton
 public class BookRepository {
 
+    public static final int MAX_BATCH_WRITE_SIZE = 25;
+    public static final int MAX_BATCH_GET_SIZE = 100;
+
+    private static final String HASH_ATTRIBUTE = "hash";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbEnhancedClient dynamoDbEnhancedClient;
+    private final TableSchema<BookEntity> tableSchema;
     private final DynamoDbTable<BookEntity> bookTable;
+    private final String partitionKeyAttribute;
+    private final String sortKeyAttribute;
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final boolean skipUnchanged;
+    private final Semaphore inFlightReads;
+    private final AdaptiveRateLimiter writeRateLimiter;
 
-    public BookRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient, Configuration configuration) {
-        this.bookTable = dynamoDbEnhancedClient.table(configuration.getBooksTableName(),
-                TableSchema.fromBean(BookEntity.class));
+    public BookRepository(DynamoDbClient dynamoDbClient, DynamoDbEnhancedClient dynamoDbEnhancedClient,
+            Configuration configuration) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.dynamoDbEnhancedClient = dynamoDbEnhancedClient;
+        this.tableSchema = TableSchema.fromBean(BookEntity.class);
+        this.bookTable = dynamoDbEnhancedClient.table(configuration.getBooksTableName(), tableSchema);
+        this.partitionKeyAttribute = tableSchema.tableMetadata().primaryPartitionKey();
+        this.sortKeyAttribute = tableSchema.tableMetadata().primarySortKey().orElseThrow();
+        this.maxAttempts = Math.max(1, configuration.getBatchWriteMaxAttempts());
+        this.backoff = new Backoff(configuration.getBatchWriteBaseDelayMillis(),
+                configuration.getBatchWriteMaxDelayMillis());
+        this.skipUnchanged = configuration.isSkipUnchanged();
+        this.inFlightReads = new Semaphore(Math.max(1, configuration.getBatchGetConcurrency()));
+        this.writeRateLimiter = new AdaptiveRateLimiter(configuration.getWriteTargetCapacityUnits());
+    }
+
+    public AdaptiveRateLimiter getWriteRateLimiter() {
+        return writeRateLimiter;
     }
 
     public void save(BookEntity entity) {
         bookTable.putItem(entity);
     }
 
+    public BatchWriteSummary saveAll(Iterable<BookEntity> entities) {
+        var summary = BatchWriteSummary.accumulator();
+        var batch = new LinkedHashMap<BookKey, BookEntity>();
+        var collapsed = 0L;
+
+        for (var entity : entities) {
+            if (batch.put(BookKey.of(entity), entity) != null) {
+                collapsed++;
+            }
+
+            if (batch.size() == MAX_BATCH_WRITE_SIZE) {
+                summary.add(writeBatch(batch.values(), collapsed));
+                batch.clear();
+                collapsed = 0;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            summary.add(writeBatch(batch.values(), collapsed));
+        }
+
+        return summary.toSummary();
+    }
+
     public Optional<BookEntity> findByAutorAndGenero(String autor, String genero) {
-        var key = Key.builder().partitionValue(autor).sortValue(genero).build();
+        var key = keyOf(autor, genero);
         var result = bookTable.getItem(r -> r.key(key));
         return Optional.ofNullable(result);
     }
 
+    public Map<BookKey, BookEntity> findAll(Collection<BookKey> keys, String... attributes) {
+        return findAll(keys, false, attributes);
+    }
+
+    private Map<BookKey, BookEntity> findAll(Collection<BookKey> keys, boolean partial, String... attributes) {
+        var chunks = chunk(new ArrayList<>(new LinkedHashSet<>(keys)));
+        var keysAndAttributes = keysAndAttributesTemplate(attributes);
+
+        if (chunks.size() <= 1) {
+            return chunks.isEmpty() ? Map.of() : fetchChunk(chunks.getFirst(), keysAndAttributes, partial);
+        }
+
+        var found = new HashMap<BookKey, BookEntity>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<Map<BookKey, BookEntity>>>(chunks.size());
+            chunks.forEach(chunk -> futures.add(
+                    executor.submit(() -> fetchChunkWithPermit(chunk, keysAndAttributes, partial))));
+
+            try {
+                for (var future : futures) {
+                    found.putAll(await(future));
+                }
+            } catch (RuntimeException exception) {
+                executor.shutdownNow();
+                throw exception;
+            }
+        }
+        return found;
+    }
+
+    public Stream<BookEntity> queryByAuthor(String autor) {
+        return queryByAuthor(autor, GenreRange.all());
+    }
+
+    public Stream<BookEntity> queryByAuthor(String autor, GenreRange genreRange, String... attributes) {
+        var request = queryTemplate(autor, genreRange, attributes);
+        return toStream(new PrefetchingPageIterator<>(startKey -> {
+            var response = dynamoDbClient.query(request.toBuilder().exclusiveStartKey(startKey).build());
+            var items = response.items().stream().map(tableSchema::mapToItem).toList();
+            return new PrefetchingPageIterator.Page<>(items, response.lastEvaluatedKey());
+        }));
+    }
+
+    public Stream<BookEntity> scanSegment(int segment, int totalSegments) {
+        var request = ScanRequest.builder()
+                .tableName(bookTable.tableName())
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .build();
+
+        return toStream(new PrefetchingPageIterator<>(startKey -> {
+            var response = dynamoDbClient.scan(request.toBuilder().exclusiveStartKey(startKey).build());
+            var items = response.items().stream().map(tableSchema::mapToItem).toList();
+            return new PrefetchingPageIterator.Page<>(items, response.lastEvaluatedKey());
+        }));
+    }
+
     public void delete(String autor, String genero) {
-        var key = Key.builder().partitionValue(autor).sortValue(genero).build();
+        var key = keyOf(autor, genero);
         bookTable.deleteItem(r -> r.key(key));
     }
+
+    protected BatchWriteSummary writeBatch(Collection<BookEntity> batch, long collapsed) {
+        List<BookEntity> pending = skipUnchanged ? filterChanged(batch) : List.copyOf(batch);
+        var written = pending.size();
+        var skipped = batch.size() - written;
+        var retried = 0L;
+        var throttled = 0L;
+
+        if (pending.isEmpty()) {
+            return new BatchWriteSummary(0, skipped, collapsed, 0, 0, 0, List.of());
+        }
+
+        for (var attempt = 1; ; attempt++) {
+            var unprocessed = submitBatch(pending);
+
+            if (unprocessed.isEmpty()) {
+                return new BatchWriteSummary(written, skipped, collapsed, retried, throttled, 0, List.of());
+            }
+
+            throttled++;
+            if (attempt >= maxAttempts) {
+                return new BatchWriteSummary(written - unprocessed.size(), skipped, collapsed, retried, throttled,
+                        unprocessed.size(), List.copyOf(unprocessed));
+            }
+
+            retried += unprocessed.size();
+            backoff.pause(attempt);
+            pending = unprocessed;
+        }
+    }
+
+    private List<BookEntity> filterChanged(Collection<BookEntity> batch) {
+        var hashedKeys = batch.stream()
+                .filter(entity -> entity.getContentHash() != null)
+                .map(BookKey::of)
+                .toList();
+        if (hashedKeys.isEmpty()) {
+            return List.copyOf(batch);
+        }
+
+        var stored = findAll(hashedKeys, true, HASH_ATTRIBUTE);
+
+        return batch.stream()
+                .filter(entity -> isChanged(entity, stored.get(BookKey.of(entity))))
+                .toList();
+    }
+
+    private static boolean isChanged(BookEntity entity, BookEntity stored) {
+        return entity.getContentHash() == null
+                || stored == null
+                || !entity.getContentHash().equals(stored.getContentHash());
+    }
+
+    private Stream<BookEntity> toStream(PrefetchingPageIterator<BookEntity> pages) {
+        var spliterator = Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(pages::close);
+    }
+
+    private List<List<BookKey>> chunk(List<BookKey> keys) {
+        var chunks = new ArrayList<List<BookKey>>();
+        for (var start = 0; start < keys.size(); start += MAX_BATCH_GET_SIZE) {
+            chunks.add(keys.subList(start, Math.min(keys.size(), start + MAX_BATCH_GET_SIZE)));
+        }
+        return chunks;
+    }
+
+    private KeysAndAttributes keysAndAttributesTemplate(String... attributes) {
+        var template = KeysAndAttributes.builder();
+        if (attributes.length == 0) {
+            return template.build();
+        }
+
+        var names = projectionNames(attributes);
+        return template
+                .projectionExpression(String.join(", ", names.keySet()))
+                .expressionAttributeNames(names)
+                .build();
+    }
+
+    private QueryRequest queryTemplate(String autor, GenreRange genreRange, String... attributes) {
+        var names = new LinkedHashMap<String, String>();
+        var values = new LinkedHashMap<String, AttributeValue>();
+        names.put("#pk", partitionKeyAttribute);
+        values.put(":autor", AttributeValue.fromS(autor));
+        var keyCondition = new StringBuilder("#pk = :autor");
+
+        if (genreRange.from() != null || genreRange.to() != null) {
+            names.put("#sk", sortKeyAttribute);
+        }
+        if (genreRange.from() != null && genreRange.to() != null) {
+            keyCondition.append(" AND #sk BETWEEN :de AND :ate");
+            values.put(":de", AttributeValue.fromS(genreRange.from()));
+            values.put(":ate", AttributeValue.fromS(genreRange.to()));
+        } else if (genreRange.from() != null) {
+            keyCondition.append(" AND #sk >= :de");
+            values.put(":de", AttributeValue.fromS(genreRange.from()));
+        } else if (genreRange.to() != null) {
+            keyCondition.append(" AND #sk <= :ate");
+            values.put(":ate", AttributeValue.fromS(genreRange.to()));
+        }
+
+        var request = QueryRequest.builder()
+                .tableName(bookTable.tableName())
+                .keyConditionExpression(keyCondition.toString())
+                .expressionAttributeValues(values);
+
+        if (attributes.length > 0) {
+            var projection = projectionNames(attributes);
+            names.putAll(projection);
+            request.projectionExpression(String.join(", ", projection.keySet()));
+        }
+
+        return request.expressionAttributeNames(names).build();
+    }
+
+    private Map<String, String> projectionNames(String... attributes) {
+        var projected = new LinkedHashSet<String>();
+        projected.add(partitionKeyAttribute);
+        projected.add(sortKeyAttribute);
+        projected.addAll(List.of(attributes));
+
+        var names = new LinkedHashMap<String, String>();
+        for (var attribute : projected) {
+            names.put("#p" + names.size(), attribute);
+        }
+        return names;
+    }
+
+    private Map<BookKey, BookEntity> fetchChunkWithPermit(List<BookKey> chunk, KeysAndAttributes template,
+            boolean partial) throws InterruptedException {
+        inFlightReads.acquire();
+        try {
+            return fetchChunk(chunk, template, partial);
+        } finally {
+            inFlightReads.release();
+        }
+    }
+
+    private Map<BookKey, BookEntity> fetchChunk(List<BookKey> chunk, KeysAndAttributes template, boolean partial) {
+        var found = new HashMap<BookKey, BookEntity>();
+        var pending = template.toBuilder()
+                .keys(chunk.stream().map(this::toAttributeKey).toList())
+                .build();
+
+        for (var attempt = 1; ; attempt++) {
+            var request = BatchGetItemRequest.builder()
+                    .requestItems(Map.of(bookTable.tableName(), pending))
+                    .build();
+            BatchGetItemResponse response;
+            try {
+                response = dynamoDbClient.batchGetItem(request);
+            } catch (ProvisionedThroughputExceededException exception) {
+                if (!partial) {
+                    throw exception;
+                }
+                log.warn("Leitura em lote no DynamoDB limitada por capacidade; "
+                        + "{} chaves serão tratadas como alteradas", pending.keys().size());
+                return found;
+            }
+
+            response.responses().getOrDefault(bookTable.tableName(), List.of()).forEach(item -> {
+                var entity = tableSchema.mapToItem(item);
+                found.put(BookKey.of(entity), entity);
+            });
+
+            var unprocessed = response.unprocessedKeys().get(bookTable.tableName());
+            if (unprocessed == null || unprocessed.keys().isEmpty()) {
+                return found;
+            }
+
+            if (attempt >= maxAttempts && partial) {
+                log.warn("Leitura em lote no DynamoDB com {} chaves não processadas após {} tentativas; "
+                        + "as chaves serão tratadas como alteradas", unprocessed.keys().size(), attempt);
+                return found;
+            }
+
+            if (attempt >= maxAttempts) {
+                throw new ProcessingException(String.format(
+                        "Leitura em lote no DynamoDB com %d chaves não processadas após %d tentativas",
+                        unprocessed.keys().size(), attempt));
+            }
+
+            backoff.pause(attempt);
+            pending = unprocessed;
+        }
+    }
+
+    private Map<String, AttributeValue> toAttributeKey(BookKey key) {
+        return Map.of(partitionKeyAttribute, AttributeValue.fromS(key.author()),
+                sortKeyAttribute, AttributeValue.fromS(key.genre()));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Leitura em lote no DynamoDB interrompida", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ProcessingException("Erro na leitura em lote no DynamoDB", exception.getCause());
+        }
+    }
+
+    private List<BookEntity> submitBatch(List<BookEntity> pending) {
+        var writeBatchBuilder = WriteBatch.builder(BookEntity.class).mappedTableResource(bookTable);
+        pending.forEach(writeBatchBuilder::addPutItem);
+        var writeBatch = writeBatchBuilder.build();
+        var estimatedUnits = pending.size();
+
+        writeRateLimiter.acquire(estimatedUnits);
+
+        BatchWriteResult result;
+        try {
+            result = dynamoDbEnhancedClient.batchWriteItem(r -> r
+                    .writeBatches(writeBatch)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+        } catch (ProvisionedThroughputExceededException exception) {
+            writeRateLimiter.onThrottle();
+            return pending;
+        }
+
+        var unprocessed = result.unprocessedPutItemsForTable(bookTable);
+        writeRateLimiter.onConsumed(estimatedUnits, consumedUnits(result, estimatedUnits - unprocessed.size()));
+        if (unprocessed.isEmpty()) {
+            return unprocessed;
+        }
+
+        writeRateLimiter.onThrottle();
+        var pendingByKey = new HashMap<BookKey, BookEntity>();
+        pending.forEach(entity -> pendingByKey.put(BookKey.of(entity), entity));
+        return unprocessed.stream()
+                .map(entity -> pendingByKey.getOrDefault(BookKey.of(entity), entity))
+                .toList();
+    }
+
+    private static double consumedUnits(BatchWriteResult result, double writtenItems) {
+        if (result.consumedCapacity().isEmpty()) {
+            return writtenItems;
+        }
+        return result.consumedCapacity().stream()
+                .map(ConsumedCapacity::capacityUnits)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .sum();
+    }
+
+    private static Key keyOf(String autor, String genero) {
+        return Key.builder().partitionValue(autor).sortValue(genero).build();
+    }
 }
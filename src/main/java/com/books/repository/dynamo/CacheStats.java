@@ -0,0 +1,4 @@
+package com.books.repository.dynamo;
+
+public record CacheStats(long hits, long misses, long evictions, long expirations, int size) {
+}
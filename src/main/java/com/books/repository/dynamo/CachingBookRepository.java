@@ -0,0 +1,140 @@
+package com.books.repository.dynamo;
+
+import com.books.core.Configuration;
+import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.BookKey;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+public class CachingBookRepository extends BookRepository {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier clock;
+    private final Map<BookKey, CachedLookup> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private long generation;
+
+    public CachingBookRepository(DynamoDbClient dynamoDbClient, DynamoDbEnhancedClient dynamoDbEnhancedClient,
+            Configuration configuration) {
+        this(dynamoDbClient, dynamoDbEnhancedClient, configuration, System::nanoTime);
+    }
+
+    CachingBookRepository(DynamoDbClient dynamoDbClient, DynamoDbEnhancedClient dynamoDbEnhancedClient,
+            Configuration configuration, LongSupplier clock) {
+        super(dynamoDbClient, dynamoDbEnhancedClient, configuration);
+        this.maxEntries = Math.max(1, configuration.getCacheMaxEntries());
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getCacheTtlMillis());
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getCacheNegativeTtlMillis());
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BookKey, CachedLookup> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Optional<BookEntity> findByAutorAndGenero(String autor, String genero) {
+        var key = new BookKey(autor, genero);
+        long loadGeneration;
+
+        synchronized (this) {
+            var cached = entries.get(key);
+            if (cached != null && clock.getAsLong() - cached.expiresAt() < 0) {
+                hits.increment();
+                return cached.entity().map(CachingBookRepository::copy);
+            }
+            if (cached != null) {
+                entries.remove(key);
+                expirations.increment();
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        var entity = super.findByAutorAndGenero(autor, genero);
+        var timeToLive = entity.isPresent() ? ttlNanos : negativeTtlNanos;
+
+        synchronized (this) {
+            if (loadGeneration == generation && timeToLive > 0) {
+                entries.put(key, new CachedLookup(entity.map(CachingBookRepository::copy),
+                        clock.getAsLong() + timeToLive));
+            }
+        }
+
+        return entity;
+    }
+
+    @Override
+    public void save(BookEntity entity) {
+        try {
+            super.save(entity);
+        } finally {
+            invalidate(BookKey.of(entity));
+        }
+    }
+
+    @Override
+    protected BatchWriteSummary writeBatch(Collection<BookEntity> batch, long collapsed) {
+        try {
+            return super.writeBatch(batch, collapsed);
+        } finally {
+            invalidate(batch);
+        }
+    }
+
+    @Override
+    public void delete(String autor, String genero) {
+        try {
+            super.delete(autor, genero);
+        } finally {
+            invalidate(new BookKey(autor, genero));
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entries.size());
+    }
+
+    private synchronized void invalidate(BookKey key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    private synchronized void invalidate(Collection<BookEntity> batch) {
+        generation++;
+        batch.forEach(entity -> entries.remove(BookKey.of(entity)));
+    }
+
+    private static BookEntity copy(BookEntity entity) {
+        var copy = new BookEntity();
+        copy.setAuthor(entity.getAuthor());
+        copy.setGenre(entity.getGenre());
+        copy.setPeriod(entity.getPeriod());
+        copy.setTitle(entity.getTitle());
+        copy.setContentHash(entity.getContentHash());
+        copy.setLine(entity.getLine());
+        return copy;
+    }
+
+    private record CachedLookup(Optional<BookEntity> entity, long expiresAt) {
+    }
+}
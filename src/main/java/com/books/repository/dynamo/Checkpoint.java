@@ -0,0 +1,8 @@
+package com.books.repository.dynamo;
+
+public record Checkpoint(String key, String eTag, long offset, long rows, long headerLength, long lines) {
+
+    public boolean hasOffset() {
+        return offset >= 0 && headerLength >= 0;
+    }
+}
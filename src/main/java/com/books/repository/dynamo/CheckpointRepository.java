@@ -0,0 +1,97 @@
+package com.books.repository.dynamo;
+
+import com.books.core.Configuration;
+import com.books.domain.exception.ProcessingException;
+
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+@Slf4j
+@Singleton
+public class CheckpointRepository {
+
+    private static final String FILE_ATTRIBUTE = "arquivo";
+    private static final String ETAG_ATTRIBUTE = "etag";
+    private static final String OFFSET_ATTRIBUTE = "deslocamento";
+    private static final String ROWS_ATTRIBUTE = "linhas";
+    private static final String HEADER_LENGTH_ATTRIBUTE = "tamanhoCabecalho";
+    private static final String LINES_ATTRIBUTE = "linhasConsumidas";
+    private static final String UPDATED_AT_ATTRIBUTE = "atualizadoEm";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final boolean enabled;
+    private final int intervalRows;
+
+    public CheckpointRepository(DynamoDbClient dynamoDbClient, Configuration configuration) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = configuration.getCheckpointTableName();
+        this.enabled = configuration.isCheckpointEnabled();
+        this.intervalRows = Math.max(1, configuration.getCheckpointIntervalRows());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getIntervalRows() {
+        return intervalRows;
+    }
+
+    public Optional<Checkpoint> find(String key) {
+        try {
+            var response = dynamoDbClient.getItem(request -> request
+                    .tableName(tableName)
+                    .key(Map.of(FILE_ATTRIBUTE, AttributeValue.fromS(key)))
+                    .consistentRead(true));
+
+            if (!response.hasItem() || response.item().isEmpty()) {
+                return Optional.empty();
+            }
+
+            var item = response.item();
+            return Optional.of(new Checkpoint(key, item.get(ETAG_ATTRIBUTE).s(),
+                    Long.parseLong(item.get(OFFSET_ATTRIBUTE).n()),
+                    Long.parseLong(item.get(ROWS_ATTRIBUTE).n()),
+                    Long.parseLong(item.get(HEADER_LENGTH_ATTRIBUTE).n()),
+                    item.containsKey(LINES_ATTRIBUTE) ? Long.parseLong(item.get(LINES_ATTRIBUTE).n()) : 0));
+        } catch (Exception exception) {
+            throw new ProcessingException("Erro ao ler checkpoint do arquivo: " + key, exception);
+        }
+    }
+
+    public void save(Checkpoint checkpoint) {
+        try {
+            dynamoDbClient.putItem(request -> request
+                    .tableName(tableName)
+                    .item(Map.of(
+                            FILE_ATTRIBUTE, AttributeValue.fromS(checkpoint.key()),
+                            ETAG_ATTRIBUTE, AttributeValue.fromS(checkpoint.eTag()),
+                            OFFSET_ATTRIBUTE, AttributeValue.fromN(Long.toString(checkpoint.offset())),
+                            ROWS_ATTRIBUTE, AttributeValue.fromN(Long.toString(checkpoint.rows())),
+                            HEADER_LENGTH_ATTRIBUTE, AttributeValue.fromN(Long.toString(checkpoint.headerLength())),
+                            LINES_ATTRIBUTE, AttributeValue.fromN(Long.toString(checkpoint.lines())),
+                            UPDATED_AT_ATTRIBUTE, AttributeValue.fromS(Instant.now().toString()))));
+            log.debug("Checkpoint salvo: arquivo={}, linhas={}, deslocamento={}", checkpoint.key(),
+                    checkpoint.rows(), checkpoint.offset());
+        } catch (Exception exception) {
+            throw new ProcessingException("Erro ao salvar checkpoint do arquivo: " + checkpoint.key(), exception);
+        }
+    }
+
+    public void delete(String key) {
+        try {
+            dynamoDbClient.deleteItem(request -> request
+                    .tableName(tableName)
+                    .key(Map.of(FILE_ATTRIBUTE, AttributeValue.fromS(key))));
+        } catch (Exception exception) {
+            throw new ProcessingException("Erro ao remover checkpoint do arquivo: " + key, exception);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.books.repository.dynamo;
+
+public record GenreRange(String from, String to) {
+
+    private static final GenreRange ALL = new GenreRange(null, null);
+
+    public static GenreRange all() {
+        return ALL;
+    }
+
+    public static GenreRange between(String from, String to) {
+        return new GenreRange(from, to);
+    }
+
+    public static GenreRange atLeast(String from) {
+        return new GenreRange(from, null);
+    }
+
+    public static GenreRange atMost(String to) {
+        return new GenreRange(null, to);
+    }
+}
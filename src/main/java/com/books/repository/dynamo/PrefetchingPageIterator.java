@@ -0,0 +1,86 @@
+package com.books.repository.dynamo;
+
+import com.books.domain.exception.ProcessingException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+final class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    record Page<T>(List<T> items, Map<String, AttributeValue> lastEvaluatedKey) {
+
+        boolean hasMore() {
+            return lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+        }
+    }
+
+    private final Function<Map<String, AttributeValue>, Page<T>> pageFetcher;
+    private Iterator<T> current = Collections.emptyIterator();
+    private FutureTask<Page<T>> nextPage;
+    private boolean started;
+    private boolean closed;
+
+    PrefetchingPageIterator(Function<Map<String, AttributeValue>, Page<T>> pageFetcher) {
+        this.pageFetcher = pageFetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started && !closed) {
+            started = true;
+            nextPage = prefetch(null);
+        }
+
+        while (!current.hasNext() && nextPage != null && !closed) {
+            var page = await(nextPage);
+            nextPage = page.hasMore() ? prefetch(page.lastEvaluatedKey()) : null;
+            current = page.items().iterator();
+        }
+        return current.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    private FutureTask<Page<T>> prefetch(Map<String, AttributeValue> startKey) {
+        var task = new FutureTask<>(() -> pageFetcher.apply(startKey));
+        Thread.ofVirtual().name("dynamodb-page-prefetch").start(task);
+        return task;
+    }
+
+    private Page<T> await(FutureTask<Page<T>> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Leitura paginada no DynamoDB interrompida", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ProcessingException("Erro na leitura paginada no DynamoDB", exception.getCause());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
 
@@ -23,4 +24,10 @@ public class BookEntity {
 
     @Getter(onMethod_ = { @DynamoDbAttribute("titulo") })
     private String title;
+
+    @Getter(onMethod_ = { @DynamoDbAttribute("hash") })
+    private Long contentHash;
+
+    @Getter(onMethod_ = { @DynamoDbIgnore })
+    private long line;
 }
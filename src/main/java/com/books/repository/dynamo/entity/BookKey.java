@@ -0,0 +1,8 @@
+package com.books.repository.dynamo.entity;
+
+public record BookKey(String author, String genre) {
+
+    public static BookKey of(BookEntity entity) {
+        return new BookKey(entity.getAuthor(), entity.getGenre());
+    }
+}
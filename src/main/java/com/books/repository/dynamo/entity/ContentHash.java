@@ -0,0 +1,37 @@
+package com.books.repository.dynamo.entity;
+
+public final class ContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final char NULL_MARKER = '\u0000';
+
+    private ContentHash() {
+    }
+
+    public static long of(BookEntity entity) {
+        var hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, entity.getAuthor());
+        hash = mix(hash, entity.getGenre());
+        hash = mix(hash, entity.getPeriod());
+        hash = mix(hash, entity.getTitle());
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            hash = mix(hash, NULL_MARKER);
+        } else {
+            for (var index = 0; index < value.length(); index++) {
+                hash = mix(hash, value.charAt(index));
+            }
+        }
+        return mix(hash, FIELD_SEPARATOR);
+    }
+
+    private static long mix(long hash, char value) {
+        hash = (hash ^ (value & 0xff)) * FNV_PRIME;
+        return (hash ^ (value >>> 8)) * FNV_PRIME;
+    }
+}
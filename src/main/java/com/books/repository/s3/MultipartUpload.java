@@ -0,0 +1,76 @@
+package com.books.repository.s3;
+
+import com.books.domain.exception.ProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public final class MultipartUpload {
+
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    public static final int MAX_PARTS = 10_000;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String uploadId;
+    private final AtomicInteger lastPartNumber = new AtomicInteger();
+    private final ConcurrentSkipListMap<Integer, CompletedPart> completedParts = new ConcurrentSkipListMap<>();
+
+    MultipartUpload(S3Client s3Client, String bucket, String key, String uploadId) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.uploadId = uploadId;
+    }
+
+    public int nextPartNumber() {
+        var partNumber = lastPartNumber.incrementAndGet();
+        if (partNumber > MAX_PARTS) {
+            throw new ProcessingException(String.format(
+                    "Upload de %s excedeu o limite de %d partes", key, MAX_PARTS));
+        }
+        return partNumber;
+    }
+
+    public void uploadPart(int partNumber, InputStream content, long length) {
+        var response = s3Client.uploadPart(request -> request
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(length),
+                RequestBody.fromInputStream(content, length));
+
+        completedParts.put(partNumber, CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build());
+    }
+
+    public int uploadedParts() {
+        return completedParts.size();
+    }
+
+    public void complete() {
+        s3Client.completeMultipartUpload(request -> request
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(completedParts.values())));
+    }
+
+    public void abort() {
+        try {
+            s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (Exception exception) {
+            log.warn("Failed to abort multipart upload {} of {}", uploadId, key, exception);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.books.repository.s3;
+
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+final class RangedObjectInputStream extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final S3ObjectMetadata metadata;
+    private final int rangeSize;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Deque<Future<byte[]>> pendingRanges = new ArrayDeque<>();
+
+    private long nextRangeStart;
+    private byte[] currentRange = EMPTY;
+    private int position;
+    private boolean closed;
+
+    RangedObjectInputStream(S3Client s3Client, String bucket, S3ObjectMetadata metadata, int rangeSize,
+            int concurrency) {
+        this(s3Client, bucket, metadata, 0, rangeSize, concurrency);
+    }
+
+    RangedObjectInputStream(S3Client s3Client, String bucket, S3ObjectMetadata metadata, long startOffset,
+            int rangeSize, int concurrency) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.metadata = metadata;
+        this.rangeSize = rangeSize;
+        this.nextRangeStart = startOffset;
+
+        for (var index = 0; index < concurrency; index++) {
+            scheduleNextRange();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return currentRange[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+
+        var count = Math.min(length, currentRange.length - position);
+        System.arraycopy(currentRange, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return currentRange.length - position;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        pendingRanges.forEach(range -> range.cancel(true));
+        pendingRanges.clear();
+        executor.shutdownNow();
+        currentRange = EMPTY;
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (closed) {
+            throw new IOException("Stream already closed");
+        }
+
+        while (position == currentRange.length) {
+            var nextRange = pendingRanges.poll();
+            if (nextRange == null) {
+                return false;
+            }
+
+            currentRange = await(nextRange);
+            position = 0;
+            scheduleNextRange();
+        }
+
+        return true;
+    }
+
+    private void scheduleNextRange() {
+        if (nextRangeStart >= metadata.size()) {
+            return;
+        }
+
+        var start = nextRangeStart;
+        var end = Math.min(start + rangeSize, metadata.size()) - 1;
+        nextRangeStart = end + 1;
+        pendingRanges.add(executor.submit(() -> fetchRange(start, end)));
+    }
+
+    private byte[] fetchRange(long start, long end) throws IOException {
+        try (var inputStream = s3Client.getObject(request -> request
+                .bucket(bucket)
+                .key(metadata.key())
+                .ifMatch(metadata.eTag())
+                .range("bytes=" + start + "-" + end))) {
+            var bytes = inputStream.readAllBytes();
+            var expectedLength = end - start + 1;
+
+            if (bytes.length != expectedLength) {
+                throw new IOException(String.format("Range bytes=%d-%d of %s returned %d bytes instead of %d",
+                        start, end, metadata.key(), bytes.length, expectedLength));
+            }
+
+            return bytes;
+        }
+    }
+
+    private byte[] await(Future<byte[]> range) throws IOException {
+        try {
+            return range.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for range of " + metadata.key());
+        } catch (ExecutionException exception) {
+            throw new IOException("Failed to download range of " + metadata.key(), exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.books.repository.s3;
+
+import com.books.core.Configuration;
+import com.books.domain.exception.ProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+@Slf4j
+@RequiredArgsConstructor
+public class S3AsyncBucket {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final Configuration configuration;
+
+    public CompletableFuture<Optional<Flow.Publisher<ByteBuffer>>> openFile(String fileName) {
+        var s3Location = S3Location.resolve(configuration.getS3Url(), fileName);
+
+        return s3AsyncClient.getObject(request -> request.bucket(s3Location.bucket()).key(s3Location.key()),
+                        AsyncResponseTransformer.<GetObjectResponse>toPublisher())
+                .handle((response, exception) -> {
+                    if (exception != null) {
+                        return notFound(fileName, exception);
+                    }
+                    if (S3ObjectMetadata.isGzip(s3Location.key(), response.response().contentEncoding())) {
+                        discard(response);
+                        throw new ProcessingException(
+                                "Arquivos compactados não são suportados pelo motor assíncrono: " + fileName);
+                    }
+                    return Optional.of(FlowAdapters.toFlowPublisher(response));
+                });
+    }
+
+    private Optional<Flow.Publisher<ByteBuffer>> notFound(String fileName, Throwable exception) {
+        var cause = exception instanceof CompletionException ? exception.getCause() : exception;
+        if (cause instanceof NoSuchKeyException) {
+            log.error("File {} not found in {}", fileName, configuration.getS3Url(), cause);
+            return Optional.empty();
+        }
+        throw new CompletionException(cause);
+    }
+
+    private static void discard(ResponsePublisher<GetObjectResponse> response) {
+        FlowAdapters.toFlowPublisher(response).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.cancel();
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+}
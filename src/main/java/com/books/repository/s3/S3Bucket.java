@@ -1,10 +1,14 @@
 package com.books.repository.s3;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import com.books.core.Configuration;
 import lombok.RequiredArgsConstructor;
@@ -13,14 +17,21 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 @Slf4j
 @RequiredArgsConstructor
 public class S3Bucket {
 
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final S3Client s3Client;
     private final Configuration configuration;
 
+    public String bucketName() {
+        return resolveS3Location("").bucket();
+    }
+
     public Optional<String> readFileAsString(String fileName) {
         var s3Location = resolveS3Location(fileName);
         var getObjectRequest = GetObjectRequest.builder()
@@ -28,7 +39,7 @@ public class S3Bucket {
                 .key(s3Location.key())
                 .build();
 
-        try (ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(getObjectRequest);
+        try (var inputStream = decode(s3Client.getObject(getObjectRequest), s3Location.key());
                 var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             var content = reader.lines().collect(Collectors.joining(System.lineSeparator()));
             return Optional.of(content);
@@ -45,7 +56,7 @@ public class S3Bucket {
                 .key(s3Location.key())
                 .build();
 
-        try (ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(getObjectRequest)) {
+        try (var inputStream = decode(s3Client.getObject(getObjectRequest), s3Location.key())) {
             return Optional.of(inputStream.readAllBytes());
         } catch (Exception exception) {
             log.error("Failed to read file {} from {}", fileName, configuration.getS3Url(), exception);
@@ -53,18 +64,175 @@ public class S3Bucket {
         }
     }
 
-    private S3Location resolveS3Location(String fileName) {
-        var uri = java.net.URI.create(configuration.getS3Url());
-        var bucket = uri.getHost();
-        var prefix = uri.getPath();
-        var normalizedPrefix = prefix == null ? "" : prefix.replaceFirst("^/", "").replaceAll("/$", "");
-        var key = java.util.stream.Stream.of(normalizedPrefix, fileName)
-                .filter(part -> part != null && !part.isBlank())
-                .collect(Collectors.joining("/"));
-
-        return new S3Location(bucket, key);
+    public Optional<InputStream> openFileAsStream(String fileName) {
+        var s3Location = resolveS3Location(fileName);
+        var getObjectRequest = GetObjectRequest.builder()
+                .bucket(s3Location.bucket())
+                .key(s3Location.key())
+                .build();
+
+        try {
+            return Optional.of(decode(s3Client.getObject(getObjectRequest), s3Location.key()));
+        } catch (Exception exception) {
+            log.error("Failed to open file {} from {}", fileName, configuration.getS3Url(), exception);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<InputStream> openFileAsRangedStream(String fileName) {
+        var s3Location = resolveS3Location(fileName);
+        var metadata = describeFile(fileName);
+
+        if (metadata.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (metadata.get().size() <= configuration.getS3RangeSizeBytes()) {
+            return openFileAsStream(fileName);
+        }
+
+        log.info("Downloading {} ({} bytes) in parallel ranges of {} bytes", fileName, metadata.get().size(),
+                configuration.getS3RangeSizeBytes());
+        var inputStream = new RangedObjectInputStream(s3Client, s3Location.bucket(), metadata.get(),
+                configuration.getS3RangeSizeBytes(), Math.max(1, configuration.getS3RangeConcurrency()));
+
+        try {
+            return Optional.of(decode(inputStream, metadata.get().gzipped()));
+        } catch (IOException exception) {
+            log.error("Failed to decompress file {} from {}", fileName, configuration.getS3Url(), exception);
+            closeQuietly(inputStream);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<InputStream> openFileFromOffset(S3ObjectMetadata metadata, long startOffset) {
+        if (startOffset > 0 && metadata.gzipped()) {
+            throw new IllegalArgumentException("Arquivo compactado não pode ser lido a partir de um deslocamento: "
+                    + metadata.key());
+        }
+
+        log.info("Downloading {} from byte {} of {} in parallel ranges of {} bytes", metadata.key(), startOffset,
+                metadata.size(), configuration.getS3RangeSizeBytes());
+        var inputStream = new RangedObjectInputStream(s3Client, resolveS3Location("").bucket(), metadata, startOffset,
+                configuration.getS3RangeSizeBytes(), Math.max(1, configuration.getS3RangeConcurrency()));
+
+        try {
+            return Optional.of(decode(inputStream, metadata.gzipped()));
+        } catch (IOException exception) {
+            log.error("Failed to decompress file {} from {}", metadata.key(), configuration.getS3Url(), exception);
+            closeQuietly(inputStream);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<byte[]> readRange(S3ObjectMetadata metadata, long start, long end) {
+        try (var inputStream = s3Client.getObject(request -> request
+                .bucket(resolveS3Location("").bucket())
+                .key(metadata.key())
+                .ifMatch(metadata.eTag())
+                .range("bytes=" + start + "-" + (end - 1)))) {
+            return Optional.of(inputStream.readAllBytes());
+        } catch (Exception exception) {
+            log.error("Failed to read bytes {}-{} of {} from {}", start, end, metadata.key(),
+                    configuration.getS3Url(), exception);
+            return Optional.empty();
+        }
     }
 
-    private record S3Location(String bucket, String key) {
+    public Optional<S3ObjectMetadata> describeFile(String fileName) {
+        var s3Location = resolveS3Location(fileName);
+
+        try {
+            var response = s3Client.headObject(request -> request.bucket(s3Location.bucket()).key(s3Location.key()));
+            return Optional.of(new S3ObjectMetadata(s3Location.key(), response.contentLength(), response.eTag(),
+                    response.contentEncoding()));
+        } catch (Exception exception) {
+            log.error("Failed to describe file {} from {}", fileName, configuration.getS3Url(), exception);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<String>> listFiles(String prefix) {
+        var basePath = resolveS3Location("").key();
+        var baseDirectory = basePath.isEmpty() ? "" : basePath + "/";
+        var s3Location = resolveS3Location(prefix);
+        var listPrefix = prefix == null || prefix.isBlank() ? baseDirectory : s3Location.key();
+
+        try {
+            var fileNames = s3Client.listObjectsV2Paginator(request -> request
+                            .bucket(s3Location.bucket())
+                            .prefix(listPrefix))
+                    .contents()
+                    .stream()
+                    .map(S3Object::key)
+                    .filter(key -> !key.endsWith("/"))
+                    .map(key -> key.substring(baseDirectory.length()))
+                    .toList();
+            return Optional.of(fileNames);
+        } catch (Exception exception) {
+            log.error("Failed to list files with prefix {} in {}", prefix, configuration.getS3Url(), exception);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<MultipartUpload> startMultipartUpload(String fileName) {
+        var s3Location = resolveS3Location(fileName);
+
+        try {
+            var response = s3Client.createMultipartUpload(request -> request
+                    .bucket(s3Location.bucket())
+                    .key(s3Location.key())
+                    .contentType("text/csv"));
+            return Optional.of(new MultipartUpload(s3Client, s3Location.bucket(), s3Location.key(),
+                    response.uploadId()));
+        } catch (Exception exception) {
+            log.error("Failed to start upload of file {} to {}", fileName, configuration.getS3Url(), exception);
+            return Optional.empty();
+        }
+    }
+
+    public boolean exists(String fileName) {
+        var s3Location = resolveS3Location(fileName);
+
+        try {
+            s3Client.headObject(request -> request.bucket(s3Location.bucket()).key(s3Location.key()));
+            return true;
+        } catch (Exception exception) {
+            log.debug("File {} not available in {}", fileName, configuration.getS3Url(), exception);
+            return false;
+        }
+    }
+
+    private static InputStream decode(ResponseInputStream<GetObjectResponse> inputStream, String key)
+            throws IOException {
+        var contentEncoding = Optional.ofNullable(inputStream.response())
+                .map(GetObjectResponse::contentEncoding)
+                .orElse(null);
+        return decode(inputStream, S3ObjectMetadata.isGzip(key, contentEncoding));
+    }
+
+    private static InputStream decode(InputStream inputStream, boolean gzipped) throws IOException {
+        if (!gzipped) {
+            return inputStream;
+        }
+
+        try {
+            return new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE);
+        } catch (IOException exception) {
+            closeQuietly(inputStream);
+            throw exception;
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException exception) {
+            log.debug("Failed to close stream", exception);
+        }
+    }
+
+    private S3Location resolveS3Location(String fileName) {
+        return S3Location.resolve(configuration.getS3Url(), fileName);
     }
 }
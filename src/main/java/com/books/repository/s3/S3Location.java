@@ -0,0 +1,20 @@
+package com.books.repository.s3;
+
+import java.net.URI;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+record S3Location(String bucket, String key) {
+
+    static S3Location resolve(String s3Url, String fileName) {
+        var uri = URI.create(s3Url);
+        var bucket = uri.getHost();
+        var prefix = uri.getPath();
+        var normalizedPrefix = prefix == null ? "" : prefix.replaceFirst("^/", "").replaceAll("/$", "");
+        var key = Stream.of(normalizedPrefix, fileName)
+                .filter(part -> part != null && !part.isBlank())
+                .collect(Collectors.joining("/"));
+
+        return new S3Location(bucket, key);
+    }
+}
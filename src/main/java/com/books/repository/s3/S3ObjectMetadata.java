@@ -0,0 +1,15 @@
+package com.books.repository.s3;
+
+import java.util.Locale;
+
+public record S3ObjectMetadata(String key, long size, String eTag, String contentEncoding) {
+
+    public boolean gzipped() {
+        return isGzip(key, contentEncoding);
+    }
+
+    static boolean isGzip(String key, String contentEncoding) {
+        return key.endsWith(".gz")
+                || (contentEncoding != null && contentEncoding.toLowerCase(Locale.ROOT).contains("gzip"));
+    }
+}
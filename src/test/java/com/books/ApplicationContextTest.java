@@ -0,0 +1,71 @@
+package com.books;
+
+import com.books.core.AwsClientFactory;
+import com.books.core.Configuration;
+import com.books.domain.book.BookMapperImpl;
+import com.books.repository.dynamo.BookRepository;
+import com.books.support.InMemoryDynamoDbClient;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationContextTest {
+
+    @Mock
+    private AwsClientFactory clientFactory;
+
+    private Configuration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new Configuration();
+        var dynamoDbClient = new InMemoryDynamoDbClient("autor", "genero", 100);
+        when(clientFactory.dynamoDbClient()).thenReturn(dynamoDbClient);
+        when(clientFactory.dynamoDbEnhancedClient())
+                .thenReturn(DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build());
+        when(clientFactory.s3Client()).thenReturn(new InMemoryS3Client());
+    }
+
+    @Test
+    void deveMontarGrafoDeObjetosSemReflexao() {
+        var context = new ApplicationContext(configuration, clientFactory);
+
+        assertSame(configuration, context.getConfiguration());
+        assertSame(clientFactory, context.getClientFactory());
+        assertInstanceOf(BookMapperImpl.class, context.getBookMapper());
+        assertEquals(BookRepository.class, context.getBookRepository().getClass());
+        assertEquals(URI.create(configuration.getS3Url()).getHost(), context.getS3Bucket().bucketName());
+    }
+
+    @Test
+    void deveCompartilharClientesDoSdkEntreRepositorios() {
+        new ApplicationContext(configuration, clientFactory);
+
+        verify(clientFactory, times(1)).dynamoDbClient();
+        verify(clientFactory, times(1)).dynamoDbEnhancedClient();
+        verify(clientFactory, times(1)).s3Client();
+    }
+
+    @Test
+    void deveCriarHandlerAPartirDoContexto() {
+        var context = new ApplicationContext(configuration, clientFactory);
+
+        new BooksEtlHandler(context);
+
+        verify(clientFactory).prewarm(context.getS3Bucket().bucketName());
+    }
+}
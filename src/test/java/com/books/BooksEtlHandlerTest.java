@@ -0,0 +1,204 @@
+package com.books;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.books.application.AsyncBookApplication;
+import com.books.application.BookApplication;
+import com.books.application.BookExporter;
+import com.books.application.Deadline;
+import com.books.application.ExportSummary;
+import com.books.application.FileResult;
+import com.books.application.PrefixProcessor;
+import com.books.application.PrefixSummary;
+import com.books.application.StreamingResult;
+import com.books.core.AwsClientFactory;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.s3.S3Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BooksEtlHandlerTest {
+
+    @Mock
+    private AwsClientFactory clientFactory;
+
+    @Mock
+    private S3Bucket s3Bucket;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookApplication bookApplication;
+
+    @Mock
+    private PrefixProcessor prefixProcessor;
+
+    @Mock
+    private BookExporter bookExporter;
+
+    private BooksEtlHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new BooksEtlHandler(clientFactory, s3Bucket, new CsvService(), new BookMapperImpl(), bookRepository,
+                bookApplication, prefixProcessor, null, bookExporter, 5_000);
+    }
+
+    @Test
+    void deveProcessarArquivoInformadoNoEvento() {
+        when(bookApplication.processCsvFileStreaming(eq("books.csv"), any(Deadline.class)))
+                .thenReturn(new StreamingResult("books.csv", 3, true));
+
+        var resposta = handler.handleRequest(Map.of("fileName", "books.csv"), null);
+
+        assertEquals("books.csv", resposta.get("fileName"));
+        assertEquals("PROCESSADO", resposta.get("status"));
+        assertEquals("3", resposta.get("linhas"));
+    }
+
+    @Test
+    void deveProcessarInvocacoesSeguintes() {
+        when(bookApplication.processCsvFileStreaming(anyString(), any(Deadline.class)))
+                .thenAnswer(invocation -> new StreamingResult(invocation.getArgument(0), 1, true));
+
+        handler.handleRequest(Map.of("fileName", "primeiro.csv"), null);
+        handler.handleRequest(Map.of("fileName", "segundo.csv"), null);
+
+        verify(bookApplication).processCsvFileStreaming(eq("primeiro.csv"), any(Deadline.class));
+        verify(bookApplication).processCsvFileStreaming(eq("segundo.csv"), any(Deadline.class));
+    }
+
+    @Test
+    void deveProcessarArquivoComMotorAssincronoQuandoConfigurado() {
+        var asyncBookApplication = mock(AsyncBookApplication.class);
+        when(asyncBookApplication.processCsvFileStreaming("books.csv"))
+                .thenReturn(new StreamingResult("books.csv", 5, true));
+        var asyncHandler = new BooksEtlHandler(clientFactory, s3Bucket, new CsvService(), new BookMapperImpl(),
+                bookRepository, bookApplication, prefixProcessor, asyncBookApplication, bookExporter, 5_000);
+
+        var resposta = asyncHandler.handleRequest(Map.of("fileName", "books.csv"), null);
+
+        assertEquals("5", resposta.get("linhas"));
+        verifyNoInteractions(bookApplication);
+    }
+
+    @Test
+    void deveFalharParaNovaTentativaQuandoTempoLimiteInterrompeProcessamento() {
+        var context = mock(Context.class);
+        when(context.getRemainingTimeInMillis()).thenReturn(4_000);
+        when(bookApplication.processCsvFileStreaming(eq("books.csv"), any(Deadline.class)))
+                .thenAnswer(invocation -> {
+                    Deadline deadline = invocation.getArgument(1);
+                    assertTrue(deadline.reached());
+                    return new StreamingResult("books.csv", 20_000, false);
+                });
+
+        var excecao = assertThrows(ProcessingException.class,
+                () -> handler.handleRequest(Map.of("fileName", "books.csv"), context));
+
+        assertTrue(excecao.getMessage().contains("20000 linhas"));
+    }
+
+    @Test
+    void deveProcessarPrefixoInformadoNoEvento() {
+        when(prefixProcessor.processPrefix(eq("shards/"), any(Deadline.class))).thenReturn(new PrefixSummary("shards/",
+                List.of(new FileResult("shards/a.csv", true, true, 10, null),
+                        new FileResult("shards/b.csv", false, false, 5, "Erro ao fazer parsing do CSV"))));
+
+        var resposta = handler.handleRequest(Map.of("prefix", "shards/"), null);
+
+        verify(bookApplication, never()).processCsvFileStreaming(anyString(), any());
+        assertEquals("PROCESSADO_COM_FALHAS", resposta.get("status"));
+        assertEquals("2", resposta.get("arquivos"));
+        assertEquals("1", resposta.get("falhas"));
+        assertEquals("shards/b.csv", resposta.get("arquivosComFalha"));
+    }
+
+    @Test
+    void deveFalharParaNovaTentativaQuandoTempoLimiteInterrompePrefixo() {
+        var context = mock(Context.class);
+        when(context.getRemainingTimeInMillis()).thenReturn(4_000);
+        when(prefixProcessor.processPrefix(eq("shards/"), any(Deadline.class))).thenAnswer(invocation -> {
+            Deadline deadline = invocation.getArgument(1);
+            assertTrue(deadline.reached());
+            return new PrefixSummary("shards/", List.of(new FileResult("shards/a.csv", true, false, 10, null)));
+        });
+
+        var excecao = assertThrows(ProcessingException.class,
+                () -> handler.handleRequest(Map.of("prefix", "shards/"), context));
+
+        assertTrue(excecao.getMessage().contains("1 arquivos pendentes"));
+    }
+
+    @Test
+    void deveExportarTabelaQuandoEventoInformaExportacao() {
+        when(bookExporter.export("livros.csv")).thenReturn(new ExportSummary(5_000, 2, 150_000));
+
+        var resposta = handler.handleRequest(Map.of("export", "livros.csv"), null);
+
+        verify(bookApplication, never()).processCsvFileStreaming(anyString(), any());
+        verifyNoInteractions(prefixProcessor);
+        assertEquals("EXPORTADO", resposta.get("status"));
+        assertEquals("5000", resposta.get("linhas"));
+        assertEquals("2", resposta.get("partes"));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoEventoNaoInformaArquivo() {
+        assertThrows(IllegalArgumentException.class, () -> handler.handleRequest(Map.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> handler.handleRequest(null, null));
+
+        verify(bookApplication, never()).processCsvFileStreaming(anyString(), any());
+    }
+
+    @Test
+    void deveExecutarPrimingDosClientesAntesDoCheckpoint() {
+        handler.beforeCheckpoint(null);
+
+        verify(bookRepository).findByAutorAndGenero("__priming__", "__priming__");
+        verify(s3Bucket).exists("__priming__");
+        verifyNoInteractions(bookApplication);
+    }
+
+    @Test
+    void deveReabrirConexoesAposRestaurarSnapshot() {
+        when(s3Bucket.bucketName()).thenReturn("books");
+
+        handler.afterRestore(null);
+
+        verify(clientFactory).prewarm("books");
+    }
+
+    @Test
+    void deveIgnorarFalhasDuranteOPriming() {
+        when(bookRepository.findByAutorAndGenero(anyString(), anyString()))
+                .thenThrow(new IllegalStateException("Sem credenciais"));
+
+        assertDoesNotThrow(() -> handler.beforeCheckpoint(null));
+
+        verify(s3Bucket).exists("__priming__");
+    }
+}
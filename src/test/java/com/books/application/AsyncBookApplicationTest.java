@@ -0,0 +1,131 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.domain.exception.FileNotFoundException;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.AsyncBookRepository;
+import com.books.repository.s3.S3AsyncBucket;
+import com.books.support.InMemoryDynamoDbAsyncClient;
+import com.books.support.InMemoryS3AsyncClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncBookApplicationTest {
+
+    private static final int MAX_IN_FLIGHT_WRITES = 2;
+
+    private InMemoryS3AsyncClient s3AsyncClient;
+    private InMemoryDynamoDbAsyncClient dynamoDbAsyncClient;
+    private AsyncBookApplication application;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new Configuration();
+        s3AsyncClient = new InMemoryS3AsyncClient(1_024);
+        dynamoDbAsyncClient = new InMemoryDynamoDbAsyncClient();
+        var enhancedClient = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(dynamoDbAsyncClient).build();
+
+        application = new AsyncBookApplication(new S3AsyncBucket(s3AsyncClient, configuration), new CsvService(),
+                new BookMapperImpl(), new AsyncBookRepository(enhancedClient, configuration),
+                new MetricsEmitter("BooksEtl", false, new PrintStream(new ByteArrayOutputStream())),
+                DedupPolicy.LAST_WINS, MAX_IN_FLIGHT_WRITES);
+    }
+
+    @Test
+    void deveGravarTodasAsLinhasDoArquivo() {
+        s3AsyncClient.putObject("books.csv", criarCsv(1_000));
+
+        var result = application.processCsvFileStreaming("books.csv");
+
+        assertEquals(1_000, result.rows());
+        assertTrue(result.completed());
+        assertEquals(1_000, dynamoDbAsyncClient.size());
+        assertTrue(dynamoDbAsyncClient.maxInFlightWrites() <= MAX_IN_FLIGHT_WRITES);
+    }
+
+    @Test
+    void devePropagarBackpressureDoDynamoDbAteALeituraDoS3() throws Exception {
+        var csv = criarCsv(10_000);
+        s3AsyncClient.putObject("books.csv", csv);
+        dynamoDbAsyncClient.hold();
+
+        var future = application.processCsvFileAsync("books.csv");
+        aguardar(() -> dynamoDbAsyncClient.heldWrites() == MAX_IN_FLIGHT_WRITES);
+        Thread.sleep(100);
+
+        var totalChunks = (csv.length + 1_023) / 1_024;
+        assertFalse(future.isDone());
+        assertEquals(MAX_IN_FLIGHT_WRITES, dynamoDbAsyncClient.heldWrites());
+        assertTrue(s3AsyncClient.chunksSent() < totalChunks / 10,
+                "Trechos lidos do S3 sem demanda: " + s3AsyncClient.chunksSent());
+
+        dynamoDbAsyncClient.release();
+        aguardar(() -> {
+            dynamoDbAsyncClient.release();
+            return future.isDone();
+        });
+
+        assertEquals(10_000, future.get().rows());
+        assertEquals(totalChunks, s3AsyncClient.chunksSent());
+        assertEquals(10_000, dynamoDbAsyncClient.size());
+    }
+
+    @Test
+    void deveReenviarItensNaoProcessados() {
+        s3AsyncClient.putObject("books.csv", criarCsv(30));
+        dynamoDbAsyncClient.returnUnprocessedOnNextCalls(1);
+
+        var result = application.processCsvFileStreaming("books.csv");
+
+        assertEquals(30, result.rows());
+        assertEquals(30, dynamoDbAsyncClient.size());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoArquivoNaoEncontrado() {
+        assertThrows(FileNotFoundException.class, () -> application.processCsvFileStreaming("inexistente.csv"));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCsvInvalido() {
+        s3AsyncClient.putObject("books.csv",
+                "titulo,autor,genero,periodo\n\"Dom Casmurro".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ProcessingException.class, () -> application.processCsvFileStreaming("books.csv"));
+        assertEquals(0, dynamoDbAsyncClient.size());
+    }
+
+    private static void aguardar(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condição não atingida a tempo");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static byte[] criarCsv(int linhas) {
+        return IntStream.range(0, linhas)
+                .mapToObj(index -> "\"Livro " + index + "\",\"Autor " + index + "\",\"Romance\",\"Realismo\"")
+                .collect(Collectors.joining("\n", "titulo,autor,genero,periodo\n", "\n"))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
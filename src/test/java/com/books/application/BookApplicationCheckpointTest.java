@@ -0,0 +1,190 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvParserType;
+import com.books.domain.csv.CsvService;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.Checkpoint;
+import com.books.repository.dynamo.CheckpointRepository;
+import com.books.repository.s3.S3Bucket;
+import com.books.support.InMemoryDynamoDbClient;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class BookApplicationCheckpointTest {
+
+    private static final String BUCKET = "example-bucket";
+    private static final String HEADER = "titulo,autor,genero,periodo\n";
+    private static final int ROWS = 35;
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryS3Client s3Client;
+    private InMemoryDynamoDbClient booksTable;
+    private CheckpointRepository checkpointRepository;
+    private BookApplication bookApplication;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.getS3Url()).thenReturn("s3://example-bucket/dados");
+        lenient().when(configuration.getS3RangeSizeBytes()).thenReturn(1024 * 1024);
+        lenient().when(configuration.getS3RangeConcurrency()).thenReturn(2);
+        lenient().when(configuration.getBooksTableName()).thenReturn("books");
+        lenient().when(configuration.getCheckpointTableName()).thenReturn("books-checkpoints");
+        lenient().when(configuration.isCheckpointEnabled()).thenReturn(true);
+        lenient().when(configuration.getCheckpointIntervalRows()).thenReturn(10);
+
+        s3Client = new InMemoryS3Client();
+        booksTable = new InMemoryDynamoDbClient("autor", "genero", 100);
+        checkpointRepository = new CheckpointRepository(new InMemoryDynamoDbClient("arquivo", null, 100),
+                configuration);
+        bookApplication = criarAplicacao(DedupPolicy.LAST_WINS);
+    }
+
+    @Test
+    void deveManterPrimeiraOcorrenciaEntreBlocosDeCheckpoint() {
+        bookApplication = criarAplicacao(DedupPolicy.FIRST_WINS);
+        var csv = HEADER + "Primeiro,Autor 0,Romance,Modernismo\n" + linhas(1, ROWS)
+                + "Repetido,Autor 0,Romance,Modernismo\n";
+        s3Client.putObject(BUCKET, "dados/books.csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        var resultado = bookApplication.processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertTrue(resultado.completed());
+        assertEquals(ROWS, booksTable.size());
+        var item = booksTable.getItem(GetItemRequest.builder()
+                .tableName("books")
+                .key(Map.of("autor", AttributeValue.fromS("Autor 0"), "genero", AttributeValue.fromS("Romance")))
+                .build()).item();
+        assertEquals("Primeiro", item.get("titulo").s());
+    }
+
+    @Test
+    void deveSalvarCheckpointPorBlocoERemoverAoConcluir() {
+        s3Client.putObject(BUCKET, "dados/books.csv", criarCsv());
+
+        var resultado = bookApplication.processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertTrue(resultado.completed());
+        assertEquals(ROWS, resultado.rows());
+        assertEquals(ROWS, booksTable.size());
+        assertTrue(checkpointRepository.find("dados/books.csv").isEmpty());
+    }
+
+    @Test
+    void deveInterromperNoLimiteDeTempoERetomarAPartirDoDeslocamento() {
+        var csv = criarCsv();
+        s3Client.putObject(BUCKET, "dados/books.csv", csv);
+
+        var interrompido = bookApplication.processCsvFileStreaming("books.csv", limiteAposGravar(20));
+
+        assertFalse(interrompido.completed());
+        assertEquals(20, interrompido.rows());
+        var checkpoint = checkpointRepository.find("dados/books.csv").orElseThrow();
+        assertEquals(20, checkpoint.rows());
+        assertEquals(HEADER.length(), checkpoint.headerLength());
+        assertEquals(HEADER.length() + linhas(0, 20).length(), checkpoint.offset());
+        assertEquals(20, checkpoint.lines());
+
+        var retomado = bookApplication.processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertTrue(retomado.completed());
+        assertEquals(ROWS, retomado.rows());
+        assertEquals(ROWS, booksTable.size());
+        assertTrue(s3Client.requestedRanges().contains("bytes=0-" + (HEADER.length() - 1)));
+        assertTrue(s3Client.requestedRanges().contains("bytes=" + checkpoint.offset() + "-" + (csv.length - 1)));
+        assertTrue(checkpointRepository.find("dados/books.csv").isEmpty());
+    }
+
+    @Test
+    void deveRetomarArquivoCompactadoIgnorandoLinhasJaProcessadas() {
+        s3Client.putObject(BUCKET, "dados/books.csv.gz", gzip(criarCsv()));
+
+        var interrompido = bookApplication.processCsvFileStreaming("books.csv.gz", limiteAposGravar(10));
+
+        assertFalse(interrompido.completed());
+        var checkpoint = checkpointRepository.find("dados/books.csv.gz").orElseThrow();
+        assertEquals(10, checkpoint.rows());
+        assertFalse(checkpoint.hasOffset());
+
+        var retomado = bookApplication.processCsvFileStreaming("books.csv.gz", Deadline.none());
+
+        assertTrue(retomado.completed());
+        assertEquals(ROWS, retomado.rows());
+        assertEquals(ROWS, booksTable.size());
+    }
+
+    @Test
+    void deveReiniciarQuandoArquivoMudouDesdeOCheckpoint() {
+        s3Client.putObject(BUCKET, "dados/books.csv", criarCsv());
+        checkpointRepository.save(new Checkpoint("dados/books.csv", "\"versao-anterior\"", 500, 20,
+                HEADER.length(), 20));
+
+        var resultado = bookApplication.processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertTrue(resultado.completed());
+        assertEquals(ROWS, resultado.rows());
+        assertEquals(ROWS, booksTable.size());
+        assertFalse(s3Client.requestedRanges().contains("bytes=500-" + (criarCsv().length - 1)));
+    }
+
+    private BookApplication criarAplicacao(DedupPolicy policy) {
+        var bookRepository = new BookRepository(booksTable,
+                DynamoDbEnhancedClient.builder().dynamoDbClient(booksTable).build(), configuration);
+        var s3Bucket = new S3Bucket(s3Client, configuration);
+        return new BookApplication(s3Bucket,
+                new CsvService(CsvParserType.NATIVE), new BookMapperImpl(),
+                new BookDeduplicator(policy, 100), new ConcurrentBookWriter(bookRepository, configuration),
+                new MetricsEmitter("BooksEtl", false, System.out), checkpointRepository,
+                new RejectFileWriter(s3Bucket, configuration));
+    }
+
+    private Deadline limiteAposGravar(int livros) {
+        return new Deadline(() -> booksTable.size() >= livros ? 0 : 60_000, 0);
+    }
+
+    private static byte[] criarCsv() {
+        return (HEADER + linhas(0, ROWS)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String linhas(int inicio, int fim) {
+        return IntStream.range(inicio, fim)
+                .mapToObj(index -> "Livro " + index + ",Autor " + index + ",Romance,Modernismo\n")
+                .collect(Collectors.joining());
+    }
+
+    private static byte[] gzip(byte[] content) {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return output.toByteArray();
+    }
+}
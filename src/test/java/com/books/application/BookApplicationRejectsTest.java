@@ -0,0 +1,152 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvParserType;
+import com.books.domain.csv.CsvService;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.CheckpointRepository;
+import com.books.repository.s3.S3Bucket;
+import com.books.support.InMemoryDynamoDbClient;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class BookApplicationRejectsTest {
+
+    private static final String BUCKET = "example-bucket";
+    private static final String HEADER = "titulo,autor,genero,periodo\n";
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryS3Client s3Client;
+    private InMemoryDynamoDbClient booksTable;
+    private S3Bucket s3Bucket;
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.getS3Url()).thenReturn("s3://example-bucket/dados");
+        lenient().when(configuration.getS3RangeSizeBytes()).thenReturn(1024 * 1024);
+        lenient().when(configuration.getS3RangeConcurrency()).thenReturn(2);
+        lenient().when(configuration.getBooksTableName()).thenReturn("books");
+        lenient().when(configuration.getCheckpointTableName()).thenReturn("books-checkpoints");
+        lenient().when(configuration.getBatchWriteMaxAttempts()).thenReturn(2);
+
+        s3Client = new InMemoryS3Client();
+        booksTable = new InMemoryDynamoDbClient("autor", "genero", 100);
+        s3Bucket = new S3Bucket(s3Client, configuration);
+        bookRepository = new BookRepository(booksTable,
+                DynamoDbEnhancedClient.builder().dynamoDbClient(booksTable).build(), configuration);
+    }
+
+    @Test
+    void deveGravarLinhasRejeitadasNoS3SemInterromperOArquivo() {
+        s3Client.putObject(BUCKET, "dados/books.csv", (HEADER + linhas(0, 50)
+                + "Dom Casmurro,Machado de Assis\n"
+                + ",,Romance,Realismo\n"
+                + linhas(50, 100)).getBytes(StandardCharsets.UTF_8));
+
+        var resultado = criarAplicacao(0.05).processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertTrue(resultado.completed());
+        assertEquals(100, booksTable.size());
+        assertEquals("linha,motivo,titulo,autor,genero,periodo,conteudo\n"
+                + "52,\"esperados 4 campos, encontrados 2\",,,,,\"Dom Casmurro,Machado de Assis\"\n"
+                + "53,autor ou gênero vazio,,,Romance,Realismo,\n", arquivoDeRejeitados());
+    }
+
+    @Test
+    void deveGravarNoArquivoDeRejeitadosItensQueFalharamAposReenvios() {
+        s3Client.putObject(BUCKET, "dados/books.csv", (HEADER + linhas(0, 40)
+                + "Iracema,José de Alencar,Romance,Romantismo\n").getBytes(StandardCharsets.UTF_8));
+        booksTable.failWritesOfPartition("José de Alencar");
+
+        criarAplicacao(0.05).processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertEquals(40, booksTable.size());
+        assertEquals("linha,motivo,titulo,autor,genero,periodo,conteudo\n"
+                + "42,falha ao gravar no DynamoDB após 1 reenvios,Iracema,José de Alencar,Romance,Romantismo,\n",
+                arquivoDeRejeitados());
+    }
+
+    @Test
+    void deveFalharArquivoQuandoProporcaoDeRejeitadosExcedeOLimite() {
+        s3Client.putObject(BUCKET, "dados/books.csv", (HEADER + linhas(0, 9)
+                + "Dom Casmurro,Machado de Assis\n").getBytes(StandardCharsets.UTF_8));
+
+        var exception = assertThrows(ProcessingException.class,
+                () -> criarAplicacao(0.05).processCsvFileStreaming("books.csv", Deadline.none()));
+
+        assertTrue(exception.getMessage().contains("rejeitou 1 de 10 linhas"));
+        assertTrue(arquivoDeRejeitados().contains("11,\"esperados 4 campos, encontrados 2\""));
+    }
+
+    @Test
+    void deveGravarSomenteALinhaComAspasNaoFechadasEProcessarORestanteDoArquivo() {
+        s3Client.putObject(BUCKET, "dados/books.csv", (HEADER + "\"Dom Casmurro,Machado de Assis,Romance\n"
+                + linhas(0, 1_000)).getBytes(StandardCharsets.UTF_8));
+
+        criarAplicacao(0.01).processCsvFileStreaming("books.csv", Deadline.none());
+
+        assertEquals(1_000, booksTable.size());
+        assertEquals("linha,motivo,titulo,autor,genero,periodo,conteudo\n"
+                + "2,campo entre aspas não foi fechado,,,,,\"\"\"Dom Casmurro,Machado de Assis,Romance\"\n",
+                arquivoDeRejeitados());
+    }
+
+    @Test
+    void deveManterFalhaImediataQuandoCanalDeRejeitadosDesabilitado() {
+        s3Client.putObject(BUCKET, "dados/books.csv", (HEADER + linhas(0, 9)
+                + "Dom Casmurro,Machado de Assis\n").getBytes(StandardCharsets.UTF_8));
+        var bookApplication = criarAplicacao(new RejectFileWriter(s3Bucket, false, "rejeitados/", 1));
+
+        var exception = assertThrows(ProcessingException.class,
+                () -> bookApplication.processCsvFileStreaming("books.csv", Deadline.none()));
+
+        assertTrue(exception.getCause().getMessage().contains("Linha 11 do CSV"));
+        assertEquals(0, s3Bucket.listFiles("rejeitados/").orElseThrow().size());
+    }
+
+    private BookApplication criarAplicacao(double maxRatio) {
+        return criarAplicacao(new RejectFileWriter(s3Bucket, true, "rejeitados/", maxRatio));
+    }
+
+    private BookApplication criarAplicacao(RejectFileWriter rejectFileWriter) {
+        return new BookApplication(s3Bucket, new CsvService(CsvParserType.NATIVE), new BookMapperImpl(),
+                new BookDeduplicator(DedupPolicy.LAST_WINS, 100), new ConcurrentBookWriter(bookRepository, configuration),
+                new MetricsEmitter("BooksEtl", false, System.out),
+                new CheckpointRepository(new InMemoryDynamoDbClient("arquivo", null, 100), configuration),
+                rejectFileWriter);
+    }
+
+    private String arquivoDeRejeitados() {
+        var arquivos = s3Bucket.listFiles("rejeitados/").orElseThrow();
+        assertEquals(1, arquivos.size());
+        assertTrue(arquivos.get(0).startsWith("rejeitados/books.csv."));
+        return new String(s3Client.getObjectContent(BUCKET, "dados/" + arquivos.get(0)), StandardCharsets.UTF_8);
+    }
+
+    private static String linhas(int inicio, int fim) {
+        return IntStream.range(inicio, fim)
+                .mapToObj(indice -> "Livro " + indice + ",Autor " + indice + ",Romance,Realismo\n")
+                .collect(Collectors.joining());
+    }
+}
@@ -1,11 +1,13 @@
 package com.books.application;
 
+import com.books.core.metrics.MetricsEmitter;
 import com.books.domain.book.Book;
 import com.books.domain.book.BookMapper;
 import com.books.domain.csv.CsvService;
 import com.books.domain.exception.FileNotFoundException;
 import com.books.domain.exception.ProcessingException;
-import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.BatchWriteSummary;
+import com.books.repository.dynamo.CheckpointRepository;
 import com.books.repository.dynamo.entity.BookEntity;
 import com.books.repository.s3.S3Bucket;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,13 +15,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -38,8 +46,20 @@ class BookApplicationTest {
     @Mock
     private BookMapper bookMapper;
 
+    @Spy
+    private BookDeduplicator bookDeduplicator = new BookDeduplicator(DedupPolicy.LAST_WINS, 100);
+
+    @Mock
+    private ConcurrentBookWriter bookWriter;
+
     @Mock
-    private BookRepository bookRepository;
+    private MetricsEmitter metricsEmitter;
+
+    @Mock
+    private CheckpointRepository checkpointRepository;
+
+    @Mock
+    private RejectFileWriter rejectFileWriter;
 
     @InjectMocks
     private BookApplication bookApplication;
@@ -73,13 +93,14 @@ class BookApplicationTest {
         when(s3Bucket.readFileAsBytes(fileName)).thenReturn(Optional.of(csvData));
         when(csvService.parseCsvToBooks(csvData)).thenReturn(books);
         when(bookMapper.toEntity(any(Book.class))).thenReturn(bookEntity);
+        var salvos = simularSaveAll();
 
         bookApplication.processCsvFile(fileName);
 
         verify(s3Bucket).readFileAsBytes(fileName);
         verify(csvService).parseCsvToBooks(csvData);
         verify(bookMapper).toEntity(books.get(0));
-        verify(bookRepository).save(bookEntity);
+        assertEquals(List.of(bookEntity), salvos);
     }
 
     @Test
@@ -101,10 +122,37 @@ class BookApplicationTest {
         when(csvService.parseCsvToBooks(csvData)).thenReturn(booksList);
         when(bookMapper.toEntity(books.get(0))).thenReturn(bookEntity);
         when(bookMapper.toEntity(book2)).thenReturn(entity2);
+        var salvos = simularSaveAll();
+
+        bookApplication.processCsvFile(fileName);
+
+        verify(bookWriter, times(1)).write(any(), any());
+        assertEquals(List.of(bookEntity, entity2), salvos);
+    }
+
+    @Test
+    void deveDescartarLivrosComChaveRepetidaAntesDeGravar() {
+        var repetido = new Book();
+        repetido.setTitle("Memórias Póstumas de Brás Cubas");
+        repetido.setAuthor("Machado de Assis");
+        repetido.setGenre("Romance");
+        repetido.setPeriod("Realismo");
+
+        var entidadeRepetida = new BookEntity();
+        entidadeRepetida.setTitle("Memórias Póstumas de Brás Cubas");
+        entidadeRepetida.setAuthor("Machado de Assis");
+        entidadeRepetida.setGenre("Romance");
+        entidadeRepetida.setPeriod("Realismo");
+
+        when(s3Bucket.readFileAsBytes(fileName)).thenReturn(Optional.of(csvData));
+        when(csvService.parseCsvToBooks(csvData)).thenReturn(List.of(books.get(0), repetido));
+        when(bookMapper.toEntity(books.get(0))).thenReturn(bookEntity);
+        when(bookMapper.toEntity(repetido)).thenReturn(entidadeRepetida);
+        var salvos = simularSaveAll();
 
         bookApplication.processCsvFile(fileName);
 
-        verify(bookRepository, times(2)).save(any(BookEntity.class));
+        assertEquals(List.of(entidadeRepetida), salvos);
     }
 
     @Test
@@ -115,7 +163,7 @@ class BookApplicationTest {
 
         verify(s3Bucket).readFileAsBytes(fileName);
         verify(csvService, never()).parseCsvToBooks(any());
-        verify(bookRepository, never()).save(any());
+        verify(bookWriter, never()).write(any(), any());
     }
 
     @Test
@@ -127,20 +175,81 @@ class BookApplicationTest {
 
         verify(s3Bucket).readFileAsBytes(fileName);
         verify(csvService).parseCsvToBooks(csvData);
-        verify(bookRepository, never()).save(any());
+        verify(bookWriter, never()).write(any(), any());
     }
 
     @Test
     void deveLancarExcecaoQuandoErroAoSalvarNoDynamoDB() {
         when(s3Bucket.readFileAsBytes(fileName)).thenReturn(Optional.of(csvData));
         when(csvService.parseCsvToBooks(csvData)).thenReturn(books);
-        when(bookMapper.toEntity(any(Book.class))).thenReturn(bookEntity);
-        doThrow(new RuntimeException("Erro ao salvar no DynamoDB")).when(bookRepository).save(bookEntity);
+        doThrow(new RuntimeException("Erro ao salvar no DynamoDB")).when(bookWriter).write(any(), any());
 
         assertThrows(ProcessingException.class, () -> bookApplication.processCsvFile(fileName));
 
         verify(s3Bucket).readFileAsBytes(fileName);
         verify(csvService).parseCsvToBooks(csvData);
-        verify(bookRepository).save(bookEntity);
+        verify(bookWriter).write(any(), any());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoItensFalhamAposReenvios() {
+        when(s3Bucket.readFileAsBytes(fileName)).thenReturn(Optional.of(csvData));
+        when(csvService.parseCsvToBooks(csvData)).thenReturn(books);
+        when(bookWriter.write(any(), any()))
+                .thenReturn(new BatchWriteSummary(0, 0, 0, 7, 7, 1, List.of(bookEntity)));
+
+        assertThrows(ProcessingException.class, () -> bookApplication.processCsvFile(fileName));
+    }
+
+    @Test
+    void deveProcessarArquivoCsvEmStreamingComSucesso() {
+        var inputStream = new ByteArrayInputStream(csvData);
+        when(s3Bucket.openFileAsRangedStream(fileName)).thenReturn(Optional.of(inputStream));
+        when(csvService.openBookReader(any(), any(), anyLong())).thenAnswer(invocation ->
+                new CsvService().openBookReader(invocation.getArgument(0)));
+        when(bookMapper.toEntity(any(Book.class))).thenReturn(bookEntity);
+        var salvos = simularSaveAll();
+
+        var result = bookApplication.processCsvFileStreaming(fileName, Deadline.none());
+
+        verify(s3Bucket).openFileAsRangedStream(fileName);
+        verify(s3Bucket, never()).readFileAsBytes(any());
+        verify(csvService, never()).parseCsvToBooks(any());
+        assertEquals(List.of(bookEntity), salvos);
+        assertTrue(result.completed());
+        assertEquals(1, result.rows());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoArquivoNaoEncontradoNoS3EmStreaming() {
+        when(s3Bucket.openFileAsRangedStream(fileName)).thenReturn(Optional.empty());
+
+        assertThrows(FileNotFoundException.class, () -> bookApplication.processCsvFileStreaming(fileName));
+
+        verify(csvService, never()).openBookReader(any(), any(), anyLong());
+        verify(bookWriter, never()).write(any(), any());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoErroAoFazerParsingDoCsvEmStreaming() {
+        var inputStream = new ByteArrayInputStream("titulo,autor,genero,periodo\n\"Dom Casmurro".getBytes());
+        when(s3Bucket.openFileAsRangedStream(fileName)).thenReturn(Optional.of(inputStream));
+        when(csvService.openBookReader(any(), any(), anyLong())).thenAnswer(invocation ->
+                new CsvService().openBookReader(invocation.getArgument(0)));
+        simularSaveAll();
+
+        assertThrows(ProcessingException.class, () -> bookApplication.processCsvFileStreaming(fileName));
+
+        verify(bookMapper, never()).toEntity(any());
+    }
+
+    private List<BookEntity> simularSaveAll() {
+        var salvos = new ArrayList<BookEntity>();
+        when(bookWriter.write(any(), any())).thenAnswer(invocation -> {
+            Iterable<BookEntity> entities = invocation.getArgument(0);
+            entities.forEach(salvos::add);
+            return new BatchWriteSummary(salvos.size(), 0, 0, 0, 0, 0, List.of());
+        });
+        return salvos;
     }
 }
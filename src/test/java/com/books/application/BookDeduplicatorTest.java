@@ -0,0 +1,125 @@
+package com.books.application;
+
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.BookKey;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookDeduplicatorTest {
+
+    @Test
+    void deveManterUltimaOcorrenciaComPoliticaLastWins() {
+        var deduplication = new BookDeduplicator(DedupPolicy.LAST_WINS, 100).deduplicate(List.of(
+                criarLivro("Dom Casmurro", "Machado de Assis"),
+                criarLivro("Iracema", "José de Alencar"),
+                criarLivro("Quincas Borba", "Machado de Assis")));
+
+        var titulos = titulos(deduplication);
+
+        assertEquals(List.of("Iracema", "Quincas Borba"), titulos);
+        assertEquals(1, deduplication.collapsed());
+    }
+
+    @Test
+    void deveManterPrimeiraOcorrenciaComPoliticaFirstWins() {
+        var deduplication = new BookDeduplicator(DedupPolicy.FIRST_WINS, 100).deduplicate(List.of(
+                criarLivro("Dom Casmurro", "Machado de Assis"),
+                criarLivro("Iracema", "José de Alencar"),
+                criarLivro("Quincas Borba", "Machado de Assis")));
+
+        var titulos = titulos(deduplication);
+
+        assertEquals(List.of("Dom Casmurro", "Iracema"), titulos);
+        assertEquals(1, deduplication.collapsed());
+    }
+
+    @Test
+    void deveManterPrimeiraOcorrenciaEntreBlocosDaMesmaJanela() {
+        var janela = new BookDeduplicator(DedupPolicy.FIRST_WINS, 100).openWindow();
+
+        var primeiroBloco = janela.deduplicate(List.of(criarLivro("Dom Casmurro", "Machado de Assis")));
+        var primeirosTitulos = titulos(primeiroBloco);
+        var segundoBloco = janela.deduplicate(List.of(
+                criarLivro("Quincas Borba", "Machado de Assis"),
+                criarLivro("Iracema", "José de Alencar")));
+
+        assertEquals(List.of("Dom Casmurro"), primeirosTitulos);
+        assertEquals(List.of("Iracema"), titulos(segundoBloco));
+        assertEquals(1, segundoBloco.collapsed());
+    }
+
+    @Test
+    void deveRepassarTodosOsLivrosSemDeduplicacao() {
+        var deduplication = new BookDeduplicator(DedupPolicy.NONE, 100).deduplicate(List.of(
+                criarLivro("Dom Casmurro", "Machado de Assis"),
+                criarLivro("Quincas Borba", "Machado de Assis")));
+
+        assertEquals(List.of("Dom Casmurro", "Quincas Borba"), titulos(deduplication));
+        assertEquals(0, deduplication.collapsed());
+    }
+
+    @Test
+    void deveLimitarMemoriaAJanelaConfigurada() {
+        var deduplication = new BookDeduplicator(DedupPolicy.LAST_WINS, 2).deduplicate(List.of(
+                criarLivro("Dom Casmurro", "Machado de Assis"),
+                criarLivro("Iracema", "José de Alencar"),
+                criarLivro("O Cortiço", "Aluísio Azevedo"),
+                criarLivro("Quincas Borba", "Machado de Assis")));
+
+        var titulos = titulos(deduplication);
+
+        assertEquals(List.of("Dom Casmurro", "Iracema", "O Cortiço", "Quincas Borba"), titulos);
+        assertEquals(0, deduplication.collapsed());
+    }
+
+    @Test
+    void deveColapsarChavesRepetidasDoArquivoDeExemplo() throws IOException {
+        var csvData = Files.readAllBytes(Path.of("aws", "literatura_brasileira.csv"));
+        var mapper = new BookMapperImpl();
+        var entities = new CsvService().parseCsvToBooks(csvData).stream().map(mapper::toEntity).toList();
+        var distinctKeys = new HashSet<BookKey>();
+        entities.forEach(entity -> distinctKeys.add(BookKey.of(entity)));
+
+        var deduplication = new BookDeduplicator(DedupPolicy.LAST_WINS, 10_000).deduplicate(entities);
+        var resultado = new ArrayList<BookEntity>();
+        deduplication.forEach(resultado::add);
+
+        assertEquals(distinctKeys.size(), resultado.size());
+        assertEquals(entities.size() - distinctKeys.size(), deduplication.collapsed());
+    }
+
+    @Test
+    void deveImpedirQueADeduplicacaoSejaPercorridaDuasVezes() {
+        var deduplication = new BookDeduplicator(DedupPolicy.LAST_WINS, 10)
+                .deduplicate(List.of(criarLivro("Dom Casmurro", "Machado de Assis")));
+        deduplication.iterator();
+
+        assertThrows(IllegalStateException.class, deduplication::iterator);
+    }
+
+    private List<String> titulos(Iterable<BookEntity> entities) {
+        var titulos = new ArrayList<String>();
+        entities.forEach(entity -> titulos.add(entity.getTitle()));
+        return titulos;
+    }
+
+    private BookEntity criarLivro(String titulo, String autor) {
+        var entity = new BookEntity();
+        entity.setTitle(titulo);
+        entity.setAuthor(autor);
+        entity.setGenre("Romance");
+        entity.setPeriod("Realismo");
+        return entity;
+    }
+}
@@ -0,0 +1,133 @@
+package com.books.application;
+
+import com.books.core.Configuration;
+import com.books.domain.book.Book;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.s3.S3Bucket;
+import com.books.support.InMemoryDynamoDbClient;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookExporterTest {
+
+    private static final String BUCKET = "example-bucket";
+    private static final int PART_SIZE = 64 * 1024;
+    private static final int SEGMENTS = 4;
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private InMemoryS3Client s3Client;
+    private BookExporter bookExporter;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getBooksTableName()).thenReturn("books");
+        when(configuration.getS3Url()).thenReturn("s3://example-bucket/exports");
+        dynamoDbClient = new InMemoryDynamoDbClient("autor", "genero", 100);
+        s3Client = new InMemoryS3Client(PART_SIZE);
+
+        var enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build();
+        var bookRepository = new BookRepository(dynamoDbClient, enhancedClient, configuration);
+        bookExporter = new BookExporter(bookRepository, new S3Bucket(s3Client, configuration), new BookMapperImpl(),
+                SEGMENTS, PART_SIZE, "");
+    }
+
+    @Test
+    void deveExportarTabelaNoFormatoLidoPeloCsvService() {
+        var livros = criarLivros(5_000);
+        livros.forEach(this::armazenar);
+
+        var summary = bookExporter.export("livros.csv");
+
+        var conteudo = s3Client.getObjectContent(BUCKET, "exports/livros.csv");
+        var exportados = new CsvService().parseCsvToBooks(conteudo);
+        assertEquals(descrever(livros), descrever(exportados));
+        assertEquals(5_000, summary.rows());
+        assertEquals(conteudo.length, summary.bytes());
+        assertTrue(summary.parts() > 1, "Partes enviadas: " + summary.parts());
+        assertTrue(new String(conteudo, StandardCharsets.UTF_8).startsWith("titulo,autor,genero,periodo\n"));
+    }
+
+    @Test
+    void deveVarrerTodosOsSegmentosDaTabela() {
+        criarLivros(500).forEach(this::armazenar);
+
+        bookExporter.export("livros.csv");
+
+        var segmentos = dynamoDbClient.scanRequests().stream()
+                .peek(request -> assertEquals(SEGMENTS, request.totalSegments()))
+                .map(request -> request.segment())
+                .distinct()
+                .sorted()
+                .toList();
+        assertEquals(List.of(0, 1, 2, 3), segmentos);
+    }
+
+    @Test
+    void deveExportarSomenteCabecalhoQuandoTabelaVazia() {
+        var summary = bookExporter.export("livros.csv");
+
+        var conteudo = new String(s3Client.getObjectContent(BUCKET, "exports/livros.csv"), StandardCharsets.UTF_8);
+        assertEquals("titulo,autor,genero,periodo\n", conteudo);
+        assertEquals(0, summary.rows());
+        assertEquals(1, summary.parts());
+    }
+
+    @Test
+    void deveAbortarUploadQuandoVarreduraFalha() {
+        criarLivros(2_000).forEach(this::armazenar);
+        dynamoDbClient.failScanOfSegment(2);
+
+        assertThrows(ProcessingException.class, () -> bookExporter.export("livros.csv"));
+        assertEquals(1, s3Client.abortedUploads().size());
+        assertEquals(0, s3Client.pendingUploads());
+    }
+
+    private void armazenar(Book book) {
+        var entity = new BookMapperImpl().toEntity(book);
+        dynamoDbClient.putItem(TableSchema.fromBean(BookEntity.class).itemToMap(entity, true));
+    }
+
+    private List<Book> criarLivros(int quantidade) {
+        return IntStream.range(0, quantidade)
+                .mapToObj(index -> {
+                    var book = new Book();
+                    book.setTitle(index % 7 == 0 ? "Título \"especial\", volume " + index : "Título " + index);
+                    book.setAuthor("Autor " + (index % 300));
+                    book.setGenre("Gênero " + index);
+                    book.setPeriod(index % 11 == 0 ? " Período com espaço" : "Período " + (index % 5));
+                    return book;
+                })
+                .toList();
+    }
+
+    private List<String> descrever(List<Book> livros) {
+        return livros.stream()
+                .map(book -> String.join("|", book.getTitle(), book.getAuthor(), book.getGenre(), book.getPeriod()))
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+}
@@ -0,0 +1,135 @@
+package com.books.application;
+
+import com.books.core.AdaptiveRateLimiter;
+import com.books.core.Configuration;
+import com.books.core.metrics.FileMetrics;
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.dynamo.BatchWriteSummary;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.entity.BookEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentBookWriterTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private Configuration configuration;
+
+    private ConcurrentBookWriter bookWriter;
+    private FileMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new FileMetrics("books.csv", "streaming");
+        when(configuration.getWriteConcurrency()).thenReturn(4);
+        when(configuration.getHttpMaxConnections()).thenReturn(50);
+        lenient().when(bookRepository.getWriteRateLimiter()).thenReturn(new AdaptiveRateLimiter(0));
+        bookWriter = new ConcurrentBookWriter(bookRepository, configuration);
+    }
+
+    @Test
+    void deveGravarTodosOsLotesESomarResumos() {
+        var gravados = Collections.synchronizedList(new ArrayList<BookEntity>());
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<BookEntity> lote = invocation.getArgument(0);
+            gravados.addAll(lote);
+            return new BatchWriteSummary(lote.size(), 0, 0, 1, 0, 0, List.of());
+        });
+
+        var summary = bookWriter.write(criarLivros(60), metrics);
+
+        verify(bookRepository, times(3)).saveAll(any());
+        assertEquals(60, gravados.size());
+        assertEquals(60, summary.written());
+        assertEquals(3, summary.retried());
+        assertEquals(3, metrics.batchWriteLatency().count());
+        assertTrue(Double.isNaN(metrics.writeRate()));
+    }
+
+    @Test
+    void deveRegistrarTaxaAtualDoLimitadorDeEscrita() {
+        when(bookRepository.getWriteRateLimiter()).thenReturn(new AdaptiveRateLimiter(80));
+        when(bookRepository.saveAll(any())).thenReturn(BatchWriteSummary.empty());
+
+        bookWriter.write(criarLivros(10), metrics);
+
+        assertEquals(80.0, metrics.writeRate());
+    }
+
+    @Test
+    void deveLimitarRequisicoesSimultaneas() {
+        var emAndamento = new AtomicInteger();
+        var maximoObservado = new AtomicInteger();
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> {
+            maximoObservado.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            emAndamento.decrementAndGet();
+            return new BatchWriteSummary(25, 0, 0, 0, 0, 0, List.of());
+        });
+
+        bookWriter.write(criarLivros(25 * 20), metrics);
+
+        assertTrue(maximoObservado.get() <= 4, "Máximo de requisições simultâneas: " + maximoObservado.get());
+        assertTrue(maximoObservado.get() > 1, "As escritas deveriam ocorrer em paralelo");
+    }
+
+    @Test
+    void deveCancelarEscritasPendentesQuandoUmLoteFalha() {
+        when(bookRepository.saveAll(any())).thenThrow(new IllegalStateException("Tabela indisponível"));
+
+        assertThrows(ProcessingException.class, () -> bookWriter.write(criarLivros(25 * 100), metrics));
+
+        verify(bookRepository, atMost(4)).saveAll(any());
+    }
+
+    @Test
+    void devePropagarErroDeLeituraDasEntidades() {
+        Iterable<BookEntity> entidadesComErro = () -> IntStream.range(0, 30)
+                .mapToObj(index -> {
+                    if (index == 29) {
+                        throw new ProcessingException("Erro ao fazer parsing do CSV");
+                    }
+                    return criarLivro(index);
+                })
+                .iterator();
+        when(bookRepository.saveAll(any())).thenReturn(new BatchWriteSummary(25, 0, 0, 0, 0, 0, List.of()));
+
+        assertThrows(ProcessingException.class, () -> bookWriter.write(entidadesComErro, metrics));
+    }
+
+    private List<BookEntity> criarLivros(int quantidade) {
+        return IntStream.range(0, quantidade).mapToObj(this::criarLivro).toList();
+    }
+
+    private BookEntity criarLivro(int index) {
+        var entity = new BookEntity();
+        entity.setAuthor("Autor " + index);
+        entity.setGenre("Romance");
+        entity.setTitle("Livro " + index);
+        entity.setPeriod("Realismo");
+        return entity;
+    }
+}
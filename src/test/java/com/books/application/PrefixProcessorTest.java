@@ -0,0 +1,124 @@
+package com.books.application;
+
+import com.books.domain.exception.ProcessingException;
+import com.books.repository.s3.S3Bucket;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrefixProcessorTest {
+
+    @Mock
+    private S3Bucket s3Bucket;
+
+    @Mock
+    private BookApplication bookApplication;
+
+    @Test
+    void deveProcessarTodosOsArquivosMesmoQuandoUmFalha() {
+        var arquivos = List.of("shards/a.csv", "shards/b.csv", "shards/c.csv");
+        when(s3Bucket.listFiles("shards/")).thenReturn(Optional.of(arquivos));
+        when(bookApplication.processCsvFileStreaming(anyString(), any())).thenAnswer(invocation ->
+                new StreamingResult(invocation.getArgument(0), 10, true));
+        lenient().doThrow(new ProcessingException("Erro ao fazer parsing do CSV"))
+                .when(bookApplication).processCsvFileStreaming(eq("shards/b.csv"), any());
+
+        var summary = new PrefixProcessor(s3Bucket, bookApplication, 2, List.of())
+                .processPrefix("shards/", Deadline.none());
+
+        arquivos.forEach(arquivo -> verify(bookApplication).processCsvFileStreaming(eq(arquivo), any()));
+        assertEquals(2, summary.succeeded());
+        assertEquals(1, summary.failed());
+        assertEquals(arquivos, summary.files().stream().map(FileResult::fileName).toList());
+
+        var falha = summary.failures().get(0);
+        assertEquals("shards/b.csv", falha.fileName());
+        assertFalse(falha.succeeded());
+        assertEquals("Erro ao fazer parsing do CSV", falha.error());
+    }
+
+    @Test
+    void deveLimitarArquivosProcessadosSimultaneamente() {
+        var arquivos = IntStream.range(0, 12).mapToObj(index -> "parte-" + index + ".csv").toList();
+        var emAndamento = new AtomicInteger();
+        var maximoObservado = new AtomicInteger();
+        when(s3Bucket.listFiles("")).thenReturn(Optional.of(arquivos));
+        doAnswer(invocation -> {
+            maximoObservado.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            emAndamento.decrementAndGet();
+            return new StreamingResult(invocation.getArgument(0), 10, true);
+        }).when(bookApplication).processCsvFileStreaming(anyString(), any());
+
+        var summary = new PrefixProcessor(s3Bucket, bookApplication, 3, List.of()).processPrefix("", Deadline.none());
+
+        assertEquals(12, summary.succeeded());
+        assertTrue(maximoObservado.get() <= 3, "Máximo de arquivos simultâneos: " + maximoObservado.get());
+        assertTrue(maximoObservado.get() > 1, "Os arquivos deveriam ser processados em paralelo");
+    }
+
+    @Test
+    void deveIgnorarArquivosRejeitadosExportadosENaoCsv() {
+        when(s3Bucket.listFiles("")).thenReturn(Optional.of(List.of("livros.csv", "shards/parte-1.CSV.gz",
+                "rejeitados/livros.csv.1700000000000.csv", "exportacoes/livros.csv", "leia-me.txt")));
+        when(bookApplication.processCsvFileStreaming(anyString(), any())).thenAnswer(invocation ->
+                new StreamingResult(invocation.getArgument(0), 10, true));
+
+        var summary = new PrefixProcessor(s3Bucket, bookApplication, 2, List.of("rejeitados/", "exportacoes/", ""))
+                .processPrefix("", Deadline.none());
+
+        assertEquals(List.of("livros.csv", "shards/parte-1.CSV.gz"),
+                summary.files().stream().map(FileResult::fileName).toList());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoNaoConsegueListarPrefixo() {
+        when(s3Bucket.listFiles("shards/")).thenReturn(Optional.empty());
+
+        var processor = new PrefixProcessor(s3Bucket, bookApplication, 2, List.of());
+
+        assertThrows(ProcessingException.class, () -> processor.processPrefix("shards/", Deadline.none()));
+        verify(bookApplication, never()).processCsvFileStreaming(anyString(), any());
+    }
+
+    @Test
+    void devePassarOLimiteDeTempoAosArquivosENaoIniciarNovosDepoisDeAtingido() {
+        var arquivos = List.of("shards/a.csv", "shards/b.csv");
+        var limiteAtingido = new AtomicBoolean();
+        var deadline = new Deadline(() -> limiteAtingido.get() ? 0 : 60_000, 0);
+        when(s3Bucket.listFiles("shards/")).thenReturn(Optional.of(arquivos));
+        when(bookApplication.processCsvFileStreaming("shards/a.csv", deadline)).thenAnswer(invocation -> {
+            limiteAtingido.set(true);
+            return new StreamingResult("shards/a.csv", 10, false);
+        });
+
+        var summary = new PrefixProcessor(s3Bucket, bookApplication, 1, List.of())
+                .processPrefix("shards/", deadline);
+
+        verify(bookApplication, never()).processCsvFileStreaming(eq("shards/b.csv"), any());
+        assertEquals(2, summary.interrupted());
+        assertEquals(0, summary.failed());
+        assertFalse(summary.files().get(0).completed());
+    }
+}
@@ -0,0 +1,112 @@
+package com.books.application.flow;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowStageTest {
+
+    private final List<Long> upstreamRequests = new ArrayList<>();
+    private boolean upstreamCancelled;
+    private RecordingSubscriber downstream;
+    private FlowStage<String, String> stage;
+
+    @BeforeEach
+    void setUp() {
+        stage = new FlowStage<>() {
+            @Override
+            protected void onItem(String item, Consumer<String> emit) {
+                if (item.isEmpty()) {
+                    throw new IllegalStateException("Item vazio");
+                }
+                for (var character : item.toCharArray()) {
+                    emit.accept(String.valueOf(character));
+                }
+            }
+
+            @Override
+            protected void onEnd(Consumer<String> emit) {
+                emit.accept("fim");
+            }
+        };
+        downstream = new RecordingSubscriber();
+        stage.subscribe(downstream);
+        stage.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                upstreamRequests.add(n);
+            }
+
+            @Override
+            public void cancel() {
+                upstreamCancelled = true;
+            }
+        });
+    }
+
+    @Test
+    void deveEmitirApenasConformeADemanda() {
+        assertTrue(upstreamRequests.isEmpty());
+
+        downstream.subscription.request(1);
+        assertEquals(List.of(1L), upstreamRequests);
+
+        stage.onNext("abc");
+        assertEquals(List.of("a"), downstream.items);
+        assertEquals(1, upstreamRequests.size());
+
+        downstream.subscription.request(3);
+        assertEquals(List.of("a", "b", "c"), downstream.items);
+        assertEquals(2, upstreamRequests.size());
+
+        stage.onComplete();
+        assertEquals(List.of("a", "b", "c", "fim"), downstream.items);
+        assertTrue(downstream.completed);
+    }
+
+    @Test
+    void deveCancelarOrigemEPropagarErroDoProcessamento() {
+        downstream.subscription.request(1);
+
+        stage.onNext("");
+
+        assertTrue(upstreamCancelled);
+        assertInstanceOf(IllegalStateException.class, downstream.error);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        private final List<String> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.books.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveRateLimiterTest {
+
+    private static final long UM_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private long agora;
+    private List<Long> esperas;
+
+    @BeforeEach
+    void setUp() {
+        agora = 0;
+        esperas = new ArrayList<>();
+    }
+
+    @Test
+    void deveLiberarSemEsperaDentroDaCapacidade() {
+        var limiter = criarLimiter(100);
+
+        for (var lote = 0; lote < 4; lote++) {
+            limiter.acquire(25);
+        }
+        assertTrue(esperas.isEmpty());
+
+        limiter.acquire(25);
+
+        assertEquals(1, esperas.size());
+        assertEquals(UM_SEGUNDO / 4, esperas.get(0));
+    }
+
+    @Test
+    void deveReduzirTaxaPelaMetadeAoSofrerThrottling() {
+        var limiter = criarLimiter(100);
+
+        limiter.onThrottle();
+        limiter.onThrottle();
+
+        assertEquals(50, limiter.currentRate());
+        assertEquals(2, limiter.throttleCount());
+    }
+
+    @Test
+    void deveAumentarTaxaGradualmenteAteOAlvo() {
+        var limiter = criarLimiter(100);
+        limiter.onThrottle();
+
+        agora += UM_SEGUNDO;
+        limiter.onConsumed(25, 25);
+        assertEquals(55, limiter.currentRate());
+
+        limiter.onConsumed(25, 25);
+        assertEquals(55, limiter.currentRate());
+
+        for (var segundo = 0; segundo < 20; segundo++) {
+            agora += UM_SEGUNDO;
+            limiter.onConsumed(25, 25);
+        }
+        assertEquals(100, limiter.currentRate());
+    }
+
+    @Test
+    void deveDescontarCapacidadeConsumidaAlemDaEstimada() {
+        var limiter = criarLimiter(100);
+
+        limiter.acquire(10);
+        limiter.onConsumed(10, 60);
+        limiter.acquire(40);
+        assertTrue(esperas.isEmpty());
+
+        limiter.acquire(10);
+
+        assertEquals(List.of(UM_SEGUNDO / 10), esperas);
+    }
+
+    @Test
+    void deveIgnorarLimiteQuandoDesabilitado() {
+        var limiter = criarLimiter(0);
+
+        for (var lote = 0; lote < 1_000; lote++) {
+            limiter.acquire(25);
+        }
+        limiter.onThrottle();
+
+        assertFalse(limiter.isEnabled());
+        assertTrue(esperas.isEmpty());
+        assertEquals(1, limiter.throttleCount());
+    }
+
+    private AdaptiveRateLimiter criarLimiter(double alvo) {
+        return new AdaptiveRateLimiter(alvo, () -> agora, nanos -> {
+            esperas.add(nanos);
+            agora += nanos;
+        });
+    }
+}
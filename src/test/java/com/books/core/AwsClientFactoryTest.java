@@ -0,0 +1,97 @@
+package com.books.core;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AwsClientFactoryTest {
+
+    private HttpServer server;
+    private final List<String> requisicoes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setProperty("aws.region", "us-east-1");
+        System.setProperty("aws.accessKeyId", "teste");
+        System.setProperty("aws.secretAccessKey", "teste");
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requisicoes.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            var body = "HEAD".equals(exchange.getRequestMethod()) ? new byte[0]
+                    : "{\"Endpoints\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            try (var output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        System.clearProperty("aws.region");
+        System.clearProperty("aws.accessKeyId");
+        System.clearProperty("aws.secretAccessKey");
+    }
+
+    @Test
+    void deveCompartilharClientesEntreChamadas() {
+        try (var factory = new AwsClientFactory(settings(HttpClientType.APACHE, 0))) {
+            assertSame(factory.dynamoDbClient(), factory.dynamoDbClient());
+            assertSame(factory.dynamoDbEnhancedClient(), factory.dynamoDbEnhancedClient());
+            assertSame(factory.s3Client(), factory.s3Client());
+        }
+    }
+
+    @Test
+    void deveAbrirConexoesDeAquecimentoComCadaClienteHttp() {
+        for (var type : HttpClientType.values()) {
+            requisicoes.clear();
+
+            try (var factory = new AwsClientFactory(settings(type, 2))) {
+                factory.prewarm("books");
+            }
+
+            assertEquals(4, requisicoes.size(), type.name());
+            assertTrue(requisicoes.contains("HEAD /books"), type.name());
+        }
+    }
+
+    @Test
+    void naoDeveCriarClientesQuandoAquecimentoDesabilitado() {
+        try (var factory = new AwsClientFactory(settings(HttpClientType.APACHE, 0))) {
+            factory.prewarm("books");
+        }
+
+        assertTrue(requisicoes.isEmpty());
+    }
+
+    @Test
+    void deveResolverTipoDeClienteHttp() {
+        assertEquals(HttpClientType.URL_CONNECTION, HttpClientType.from("url-connection"));
+        assertEquals(HttpClientType.APACHE, HttpClientType.from(" "));
+        assertThrows(IllegalStateException.class, () -> HttpClientType.from("netty"));
+    }
+
+    private HttpClientSettings settings(HttpClientType type, int prewarmConnections) {
+        return new HttpClientSettings(type, 10, Duration.ofSeconds(1), Duration.ofSeconds(5),
+                Duration.ofSeconds(30), true, prewarmConnections,
+                URI.create("http://localhost:" + server.getAddress().getPort()));
+    }
+}
@@ -32,6 +32,49 @@ class ConfigurationTest {
         }
     }
 
+    @Test
+    void deveUsarValoresPadraoDeEscritaEmLote() {
+        var configuration = carregarConfiguracao(criarPropertiesValidas());
+
+        assertEquals(8, configuration.getBatchWriteMaxAttempts());
+        assertEquals(50, configuration.getBatchWriteBaseDelayMillis());
+        assertEquals(2_000, configuration.getBatchWriteMaxDelayMillis());
+    }
+
+    @Test
+    void deveCarregarConfiguracaoDeEscritaEmLote() {
+        var properties = criarPropertiesValidas();
+        properties.setProperty("dynamodb.batch-write.max-attempts", "5");
+        properties.setProperty("dynamodb.batch-write.base-delay-ms", "10");
+        properties.setProperty("dynamodb.batch-write.max-delay-ms", "500");
+
+        var configuration = carregarConfiguracao(properties);
+
+        assertEquals(5, configuration.getBatchWriteMaxAttempts());
+        assertEquals(10, configuration.getBatchWriteBaseDelayMillis());
+        assertEquals(500, configuration.getBatchWriteMaxDelayMillis());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoValorNumericoInvalido() {
+        var properties = criarPropertiesValidas();
+        properties.setProperty("dynamodb.batch-write.max-attempts", "muitas");
+
+        assertThrows(IllegalStateException.class, () -> carregarConfiguracao(properties));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoIntervaloDoS3NaoEPositivo() {
+        var tamanhoZero = criarPropertiesValidas();
+        tamanhoZero.setProperty("s3.range.size-bytes", "0");
+        var concorrenciaNegativa = criarPropertiesValidas();
+        concorrenciaNegativa.setProperty("s3.range.concurrency", "-1");
+
+        var excecao = assertThrows(IllegalStateException.class, () -> carregarConfiguracao(tamanhoZero));
+        assertEquals("Variável 's3.range.size-bytes' deve ser maior que zero: 0", excecao.getCause().getMessage());
+        assertThrows(IllegalStateException.class, () -> carregarConfiguracao(concorrenciaNegativa));
+    }
+
     @Test
     void deveLancarExcecaoQuandoArquivoNaoEncontrado() {
         var originalClassLoader = Thread.currentThread().getContextClassLoader();
@@ -80,6 +123,19 @@ class ConfigurationTest {
         }
     }
 
+    private Configuration carregarConfiguracao(Properties properties) {
+        var originalClassLoader = Thread.currentThread().getContextClassLoader();
+
+        try {
+            var testClassLoader = new TestClassLoader(originalClassLoader, criarInputStream(properties));
+            Thread.currentThread().setContextClassLoader(testClassLoader);
+
+            return new Configuration();
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+        }
+    }
+
     private Properties criarPropertiesValidas() {
         var properties = new Properties();
         properties.setProperty("s3.url", "https://example-bucket.s3.amazonaws.com");
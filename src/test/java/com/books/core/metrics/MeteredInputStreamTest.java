@@ -0,0 +1,28 @@
+package com.books.core.metrics;
+
+import com.books.core.metrics.FileMetrics.Counter;
+import com.books.core.metrics.FileMetrics.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MeteredInputStreamTest {
+
+    @Test
+    void deveContabilizarBytesETempoDeLeitura() throws IOException {
+        var metrics = new FileMetrics("books.csv", "streaming");
+
+        try (var inputStream = new MeteredInputStream(new ByteArrayInputStream(new byte[10_000]), metrics)) {
+            inputStream.read();
+            inputStream.readAllBytes();
+
+            assertEquals(10_000, metrics.count(Counter.BYTES_READ));
+            assertEquals(inputStream.readNanos(), metrics.stageNanos(Stage.S3_READ));
+            assertTrue(inputStream.readNanos() > 0);
+        }
+    }
+}
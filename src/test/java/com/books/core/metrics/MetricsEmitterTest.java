@@ -0,0 +1,94 @@
+package com.books.core.metrics;
+
+import com.books.core.metrics.FileMetrics.Counter;
+import com.books.core.metrics.FileMetrics.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsEmitterTest {
+
+    @Test
+    void deveGerarDocumentoEmfComDimensaoDePipelineETemposPorEstagio() {
+        var metrics = new FileMetrics("books.csv", "streaming");
+        metrics.addStageTime(Stage.S3_READ, TimeUnit.MILLISECONDS.toNanos(120));
+        metrics.addStageTime(Stage.CSV_PARSE, TimeUnit.MILLISECONDS.toNanos(45));
+        metrics.increment(Counter.ROWS, 500);
+        metrics.increment(Counter.BYTES_READ, 2_048);
+        metrics.finish(true);
+
+        var emf = new MetricsEmitter("BooksEtl", true, System.out).toEmf(metrics, 1_700_000_000_000L);
+
+        assertTrue(emf.startsWith("{\"_aws\":{\"Timestamp\":1700000000000,\"CloudWatchMetrics\":[{\"Namespace\":\"BooksEtl\""));
+        assertTrue(emf.contains("\"Dimensions\":[[\"Pipeline\"]]"));
+        assertTrue(emf.contains("{\"Name\":\"S3ReadTime\",\"Unit\":\"Milliseconds\"}"));
+        assertTrue(emf.contains("{\"Name\":\"BytesRead\",\"Unit\":\"Bytes\"}"));
+        assertTrue(emf.contains("\"Pipeline\":\"streaming\",\"FileName\":\"books.csv\",\"Status\":\"SUCCEEDED\""));
+        assertTrue(emf.contains("\"S3ReadTime\":120.0"));
+        assertTrue(emf.contains("\"CsvParseTime\":45.0"));
+        assertTrue(emf.contains("\"Rows\":500"));
+        assertTrue(emf.contains("\"BytesRead\":2048"));
+        assertFalse(emf.contains("BatchWriteLatency"));
+        assertFalse(emf.contains("WriteRateWcu"));
+    }
+
+    @Test
+    void deveIncluirHistogramaDeLatenciaDosLotes() {
+        var metrics = new FileMetrics("books.csv", "buffered");
+        metrics.recordBatchWrite(TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordBatchWrite(TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordBatchWrite(TimeUnit.MILLISECONDS.toNanos(40));
+        metrics.finish(false);
+
+        var emf = new MetricsEmitter("BooksEtl", true, System.out).toEmf(metrics, 0);
+
+        assertTrue(emf.contains("\"BatchWriteLatency\":{\"Values\":[3.072,49.152],\"Counts\":[2,1]}"));
+        assertTrue(emf.contains("\"DynamoDbWriteTime\":46.0"));
+        assertTrue(emf.contains("\"Status\":\"FAILED\""));
+    }
+
+    @Test
+    void deveEmitirTaxaDeEscritaAdaptativaComoGauge() {
+        var metrics = new FileMetrics("books.csv", "streaming");
+        metrics.recordWriteRate(37.5);
+        metrics.finish(true);
+
+        var emf = new MetricsEmitter("BooksEtl", true, System.out).toEmf(metrics, 0);
+
+        assertTrue(emf.contains("{\"Name\":\"WriteRateWcu\",\"Unit\":\"Count/Second\"}"));
+        assertTrue(emf.contains("\"WriteRateWcu\":37.5"));
+    }
+
+    @Test
+    void deveEscaparNomeDoArquivo() {
+        var metrics = new FileMetrics("pasta/\"livros\".csv", "buffered");
+        metrics.finish(true);
+
+        var emf = new MetricsEmitter("BooksEtl", true, System.out).toEmf(metrics, 0);
+
+        assertTrue(emf.contains("\"FileName\":\"pasta/\\\"livros\\\".csv\""));
+    }
+
+    @Test
+    void deveEmitirUmaLinhaPorArquivoSomenteQuandoHabilitado() {
+        var metrics = new FileMetrics("books.csv", "streaming");
+        metrics.finish(true);
+        var habilitado = new ByteArrayOutputStream();
+        var desabilitado = new ByteArrayOutputStream();
+
+        new MetricsEmitter("BooksEtl", true, new PrintStream(habilitado, true, StandardCharsets.UTF_8)).emit(metrics);
+        new MetricsEmitter("BooksEtl", false, new PrintStream(desabilitado, true, StandardCharsets.UTF_8)).emit(metrics);
+
+        var linhas = habilitado.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, linhas.size());
+        assertTrue(linhas.get(0).startsWith("{\"_aws\""));
+        assertEquals(0, desabilitado.size());
+    }
+}
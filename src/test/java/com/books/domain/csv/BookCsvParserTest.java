@@ -0,0 +1,256 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+import com.books.domain.exception.ProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookCsvParserTest {
+
+    @Test
+    void deveResolverColunasPeloCabecalhoEmQualquerOrdem() {
+        var books = parse("periodo,genero,autor,titulo\nRealismo,Romance,Machado de Assis,Dom Casmurro\n");
+
+        assertEquals(1, books.size());
+        assertEquals("Dom Casmurro", books.get(0).getTitle());
+        assertEquals("Machado de Assis", books.get(0).getAuthor());
+        assertEquals("Romance", books.get(0).getGenre());
+        assertEquals("Realismo", books.get(0).getPeriod());
+    }
+
+    @Test
+    void deveTratarCamposEntreAspasConformeRfc4180() {
+        var books = parse("titulo,autor,genero,periodo\r\n"
+                + "\"Memórias, Póstumas\",\"Machado \"\"Bruxo\"\" de Assis\",\"Ro\nmance\",Realismo\r\n");
+
+        assertEquals(1, books.size());
+        assertEquals("Memórias, Póstumas", books.get(0).getTitle());
+        assertEquals("Machado \"Bruxo\" de Assis", books.get(0).getAuthor());
+        assertEquals("Ro\nmance", books.get(0).getGenre());
+        assertEquals("Realismo", books.get(0).getPeriod());
+    }
+
+    @Test
+    void deveIgnorarColunasNaoMapeadasELinhasEmBranco() {
+        var books = parse("﻿Titulo,autor,isbn,genero,periodo\n\n"
+                + "Iracema,José de Alencar,123,Romance,Romantismo\n   \n");
+
+        assertEquals(1, books.size());
+        assertEquals("Iracema", books.get(0).getTitle());
+        assertEquals("Romantismo", books.get(0).getPeriod());
+    }
+
+    @Test
+    void deveManterValorNuloQuandoColunaNaoExisteNoCabecalho() {
+        var books = parse("titulo,autor\nIracema,José de Alencar");
+
+        assertEquals(1, books.size());
+        assertEquals("José de Alencar", books.get(0).getAuthor());
+        assertNull(books.get(0).getGenre());
+    }
+
+    @Test
+    void deveParsearRegistrosDivididosEntreBlocos() {
+        var content = "titulo,autor,genero,periodo\n\"O Cortiço\",\"Aluísio Azevedo\",Romance,Naturalismo\n"
+                .getBytes(StandardCharsets.UTF_8);
+        var parser = new BookCsvParser();
+        var books = new ArrayList<Book>();
+
+        for (var index = 0; index < content.length; index++) {
+            parser.feed(content, index, 1, books::add);
+        }
+        parser.finish(books::add);
+
+        assertEquals(1, books.size());
+        assertEquals("O Cortiço", books.get(0).getTitle());
+        assertEquals("Aluísio Azevedo", books.get(0).getAuthor());
+    }
+
+    @Test
+    void deveLerRegistrosDeUmInputStream() throws IOException {
+        var linhas = new StringBuilder("titulo,autor,genero,periodo\n");
+        for (var index = 0; index < 5_000; index++) {
+            linhas.append("\"Livro ").append(index).append("\",Autor,Romance,Realismo\n");
+        }
+        var books = new ArrayList<Book>();
+
+        new BookCsvParser().parse(new ByteArrayInputStream(linhas.toString().getBytes(StandardCharsets.UTF_8)),
+                books::add);
+
+        assertEquals(5_000, books.size());
+        assertEquals("Livro 4999", books.get(4_999).getTitle());
+    }
+
+    @Test
+    void deveCompartilharInstanciaDeValoresRepetidosDeAutorGeneroEPeriodo() {
+        var books = parse("titulo,autor,genero,periodo\n"
+                + "Dom Casmurro,Machado de Assis,Romance,Realismo\n"
+                + "Quincas Borba,Machado de Assis,Romance,Realismo\n"
+                + "Dom Casmurro,José de Alencar,Romance,Romantismo\n");
+
+        assertSame(books.get(0).getAuthor(), books.get(1).getAuthor());
+        assertSame(books.get(0).getGenre(), books.get(2).getGenre());
+        assertSame(books.get(0).getPeriod(), books.get(1).getPeriod());
+        assertNotSame(books.get(0).getTitle(), books.get(2).getTitle());
+        assertEquals("Romantismo", books.get(2).getPeriod());
+    }
+
+    @Test
+    void deveDecodificarCadaValorQuandoDicionarioDesabilitado() {
+        var bytes = "titulo,autor,genero,periodo\nA,Autor,Romance,Realismo\nB,Autor,Romance,Realismo\n"
+                .getBytes(StandardCharsets.UTF_8);
+        var books = new ArrayList<Book>();
+        var parser = new BookCsvParser(0);
+        parser.feed(bytes, 0, bytes.length, books::add);
+        parser.finish(books::add);
+
+        assertEquals(books.get(0).getGenre(), books.get(1).getGenre());
+        assertNotSame(books.get(0).getGenre(), books.get(1).getGenre());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoQuantidadeDeCamposDiverge() {
+        var exception = assertThrows(ProcessingException.class,
+                () -> parse("titulo,autor,genero,periodo\nDom Casmurro,Machado de Assis\n"));
+
+        assertTrue(exception.getMessage().contains("Linha 2"));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoAspasNaoSaoFechadas() {
+        assertThrows(ProcessingException.class,
+                () -> parse("titulo,autor,genero,periodo\n\"Dom Casmurro,Machado de Assis,Romance,Realismo\n"));
+    }
+
+    @Test
+    void deveEncaminharLinhasMalformadasAoCanalDeRejeitadosSemInterromperOParsing() {
+        var bytes = ("titulo,autor,genero,periodo\n"
+                + "Dom Casmurro,Machado de Assis\n"
+                + "O Guarani,José de Alencar,Romance,Romantismo\n"
+                + "\"Iracema,José de Alencar,Romance,Romantismo\n").getBytes(StandardCharsets.UTF_8);
+        var rejeitadas = new ArrayList<RejectedRow>();
+        var parser = new BookCsvParser(BookCsvParser.DEFAULT_DICTIONARY_ENTRIES, rejeitadas::add);
+        var books = new ArrayList<Book>();
+
+        parser.feed(bytes, 0, bytes.length, books::add);
+        parser.finish(books::add);
+
+        assertEquals(1, books.size());
+        assertEquals("O Guarani", books.get(0).getTitle());
+        assertEquals(3, books.get(0).getLine());
+        assertEquals(List.of(
+                new RejectedRow(2, "esperados 4 campos, encontrados 2", "Dom Casmurro,Machado de Assis"),
+                new RejectedRow(4, "campo entre aspas não foi fechado",
+                        "\"Iracema,José de Alencar,Romance,Romantismo")), rejeitadas);
+    }
+
+    @Test
+    void deveRejeitarSomenteALinhaComAspasNaoFechadasERetomarNasLinhasSeguintes() {
+        var linhas = new StringBuilder("titulo,autor,genero,periodo\n\"Dom Casmurro,Machado de Assis,Romance\n");
+        for (var indice = 0; indice < 1_000; indice++) {
+            linhas.append("Livro ").append(indice).append(",Autor,Romance,Realismo\n");
+        }
+        var rejeitadas = new ArrayList<RejectedRow>();
+
+        var books = parse(linhas.toString(), rejeitadas);
+
+        assertEquals(1_000, books.size());
+        assertEquals("Livro 0", books.get(0).getTitle());
+        assertEquals(3, books.get(0).getLine());
+        assertEquals(1_002, books.get(999).getLine());
+        assertEquals(List.of(new RejectedRow(2, "campo entre aspas não foi fechado",
+                "\"Dom Casmurro,Machado de Assis,Romance")), rejeitadas);
+    }
+
+    @Test
+    void deveRetomarQuandoAspasAbertasSaoFechadasPorOutraLinhaComRetomadaHabilitada() {
+        var rejeitadas = new ArrayList<RejectedRow>();
+
+        var books = parseRetomandoAspas("titulo,autor,genero,periodo\n"
+                + "\"Dom Casmurro,Machado de Assis,Romance,Realismo\n"
+                + "O Guarani,José de Alencar,Romance,Romantismo\n"
+                + "\"Iracema\",José de Alencar,Romance,Romantismo\n", rejeitadas);
+
+        assertEquals(List.of("O Guarani", "Iracema"), books.stream().map(Book::getTitle).toList());
+        assertEquals(List.of(3L, 4L), books.stream().map(Book::getLine).toList());
+        assertEquals(2, rejeitadas.get(0).line());
+        assertEquals("\"Dom Casmurro,Machado de Assis,Romance,Realismo", rejeitadas.get(0).content());
+    }
+
+    @Test
+    void deveManterCamposEntreAspasComQuebraDeLinhaValidosNoModoDeRejeitados() {
+        var rejeitadas = new ArrayList<RejectedRow>();
+
+        var books = parse("titulo,autor,genero,periodo\n\"Dom\nCasmurro\",Machado de Assis,Romance,Realismo\n"
+                + "O Guarani,José de Alencar,Romance,Romantismo\n", rejeitadas);
+
+        assertEquals(List.of("Dom\nCasmurro", "O Guarani"), books.stream().map(Book::getTitle).toList());
+        assertEquals(4, books.get(1).getLine());
+        assertTrue(rejeitadas.isEmpty());
+    }
+
+    @Test
+    void deveManterCampoMultilinhaComFormatoDeRegistroNoModoDeRejeitados() {
+        var titulo = "Dom Casmurro\nCapitu,Bentinho,Escobar,Ezequiel\n" + "Memórias, cartas\n".repeat(5_000);
+        var rejeitadas = new ArrayList<RejectedRow>();
+
+        var books = parse("titulo,autor,genero,periodo\n\"" + titulo + "\",Machado de Assis,Romance,Realismo\n"
+                + "O Guarani,José de Alencar,Romance,Romantismo\n", rejeitadas);
+
+        assertTrue(titulo.length() > BookCsvParser.MAX_QUOTED_BYTES_AFTER_LINE_BREAK);
+        assertEquals(List.of(titulo, "O Guarani"), books.stream().map(Book::getTitle).toList());
+        assertEquals(5_005, books.get(1).getLine());
+        assertTrue(rejeitadas.isEmpty());
+    }
+
+    @Test
+    void deveRejeitarCampoEntreAspasAcimaDoLimiteComRetomadaHabilitada() {
+        var rejeitadas = new ArrayList<RejectedRow>();
+
+        var linhasEmBranco = BookCsvParser.MAX_QUOTED_BYTES_AFTER_LINE_BREAK + 1;
+
+        var books = parseRetomandoAspas("titulo,autor,genero,periodo\n\"Dom Casmurro\n" + "\n".repeat(linhasEmBranco)
+                + "\"Iracema\",José de Alencar,Romance,Romantismo\n", rejeitadas);
+
+        assertEquals(List.of(new RejectedRow(2, "campo entre aspas não foi fechado", "\"Dom Casmurro")), rejeitadas);
+        assertEquals(List.of("Iracema"), books.stream().map(Book::getTitle).toList());
+        assertEquals(linhasEmBranco + 3, books.get(0).getLine());
+    }
+
+    private List<Book> parse(String content, List<RejectedRow> rejeitadas) {
+        return parse(content, new BookCsvParser(BookCsvParser.DEFAULT_DICTIONARY_ENTRIES, rejeitadas::add));
+    }
+
+    private List<Book> parseRetomandoAspas(String content, List<RejectedRow> rejeitadas) {
+        return parse(content, new BookCsvParser(BookCsvParser.DEFAULT_DICTIONARY_ENTRIES, rejeitadas::add, true));
+    }
+
+    private List<Book> parse(String content, BookCsvParser parser) {
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+        var books = new ArrayList<Book>();
+        parser.feed(bytes, 0, bytes.length, books::add);
+        parser.finish(books::add);
+        return books;
+    }
+
+    private List<Book> parse(String content) {
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+        var parser = new BookCsvParser();
+        var books = new ArrayList<Book>();
+        parser.feed(bytes, 0, bytes.length, books::add);
+        parser.finish(books::add);
+        return books;
+    }
+}
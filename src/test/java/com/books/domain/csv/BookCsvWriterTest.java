@@ -0,0 +1,64 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookCsvWriterTest {
+
+    @Test
+    void deveEscreverCamposSimplesSemAspas() {
+        var resultado = escrever(criarLivro("Dom Casmurro", "Machado de Assis", "Romance", "Realismo"));
+
+        assertEquals("Dom Casmurro,Machado de Assis,Romance,Realismo\n", resultado);
+    }
+
+    @Test
+    void deveColocarEntreAspasCamposComCaracteresEspeciais() {
+        var resultado = escrever(criarLivro("Ele disse \"olá\", e saiu", "Autor", "Linha\nnova", " Período"));
+
+        assertEquals("\"Ele disse \"\"olá\"\", e saiu\",Autor,\"Linha\nnova\",\" Período\"\n", resultado);
+    }
+
+    @Test
+    void deveEscreverCampoNuloComoVazio() {
+        var resultado = escrever(criarLivro("Dom Casmurro", "Machado de Assis", "Romance", null));
+
+        assertEquals("Dom Casmurro,Machado de Assis,Romance,\n", resultado);
+    }
+
+    @Test
+    void deveGerarConteudoLidoDeVoltaPeloParser() {
+        var original = criarLivro("Ele disse \"olá\", e saiu", "Machado de Assis", "Linha\r\nnova", "\tRealismo");
+        var output = new ByteArrayOutputStream();
+        output.writeBytes(BookCsvWriter.HEADER);
+        BookCsvWriter.writeRecord(original, output);
+
+        var lidos = new CsvService().parseCsvToBooks(output.toByteArray());
+
+        assertEquals(1, lidos.size());
+        assertEquals(original.getTitle(), lidos.get(0).getTitle());
+        assertEquals(original.getAuthor(), lidos.get(0).getAuthor());
+        assertEquals(original.getGenre(), lidos.get(0).getGenre());
+        assertEquals(original.getPeriod(), lidos.get(0).getPeriod());
+    }
+
+    private String escrever(Book book) {
+        var output = new ByteArrayOutputStream();
+        BookCsvWriter.writeRecord(book, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private Book criarLivro(String titulo, String autor, String genero, String periodo) {
+        var book = new Book();
+        book.setTitle(titulo);
+        book.setAuthor(autor);
+        book.setGenre(genero);
+        book.setPeriod(periodo);
+        return book;
+    }
+}
@@ -3,7 +3,13 @@ package com.books.domain.csv;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -79,4 +85,120 @@ class CsvServiceTest {
         assertNotNull(books);
         assertTrue(books.isEmpty());
     }
+
+    @Test
+    void deveParsearCsvEmStreaming() {
+        var csvContent = "titulo,autor,genero,periodo\n" +
+                "Dom Casmurro,Machado de Assis,Romance,Século XIX\n" +
+                "O Guarani,José de Alencar,Romance,Século XIX";
+        var inputStream = new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8));
+
+        try (var books = csvService.streamCsvToBooks(inputStream)) {
+            var titulos = books.map(book -> book.getTitle()).toList();
+
+            assertEquals(2, titulos.size());
+            assertEquals("Dom Casmurro", titulos.get(0));
+            assertEquals("O Guarani", titulos.get(1));
+        }
+    }
+
+    @Test
+    void deveProduzirMesmoResultadoComParserOpenCsv() {
+        var csvContent = "titulo,autor,genero,periodo\n" +
+                "\"Dom Casmurro\",\"Machado de Assis\",\"Romance\",\"Realismo\"\n" +
+                "\"O Cortiço\",\"Aluísio Azevedo\",\"Romance\",\"Naturalismo\"\n";
+        var csvData = csvContent.getBytes(StandardCharsets.UTF_8);
+
+        var nativos = csvService.parseCsvToBooks(csvData);
+        var openCsv = new CsvService(CsvParserType.OPENCSV).parseCsvToBooks(csvData);
+
+        assertEquals(openCsv.size(), nativos.size());
+        for (var index = 0; index < nativos.size(); index++) {
+            assertEquals(openCsv.get(index).getTitle(), nativos.get(index).getTitle());
+            assertEquals(openCsv.get(index).getAuthor(), nativos.get(index).getAuthor());
+            assertEquals(openCsv.get(index).getGenre(), nativos.get(index).getGenre());
+            assertEquals(openCsv.get(index).getPeriod(), nativos.get(index).getPeriod());
+        }
+    }
+
+    @Test
+    void deveParsearCsvEmStreamingComParserOpenCsv() {
+        var csvContent = "titulo,autor,genero,periodo\n" +
+                "Dom Casmurro,Machado de Assis,Romance,Século XIX";
+        var inputStream = new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8));
+
+        try (var books = new CsvService(CsvParserType.OPENCSV).streamCsvToBooks(inputStream)) {
+            assertEquals(List.of("Dom Casmurro"), books.map(book -> book.getTitle()).toList());
+        }
+    }
+
+    @Test
+    void deveInformarDeslocamentoDoUltimoRegistroLidoEmStreaming() {
+        var cabecalho = "titulo,autor,genero,periodo\r\n";
+        var primeiraLinha = "\"Dom Casmurro\",\"Machado de Assis\",Romance,\"Século\nXIX\"\r\n";
+        var segundaLinha = "O Guarani,José de Alencar,Romance,Século XIX";
+        var csvData = (cabecalho + primeiraLinha + segundaLinha).getBytes(StandardCharsets.UTF_8);
+        var tamanhoCabecalho = cabecalho.getBytes(StandardCharsets.UTF_8).length;
+        var fimPrimeiraLinha = tamanhoCabecalho + primeiraLinha.getBytes(StandardCharsets.UTF_8).length;
+
+        try (var reader = csvService.openBookReader(new ByteArrayInputStream(csvData))) {
+            assertEquals("Dom Casmurro", reader.next().getTitle());
+            assertEquals(tamanhoCabecalho - 1, reader.headerLength());
+            assertEquals(fimPrimeiraLinha - 1, reader.committedOffset());
+
+            assertEquals("O Guarani", reader.next().getTitle());
+            assertEquals(csvData.length, reader.committedOffset());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void deveNumerarLinhasAPartirDasLinhasJaConsumidasNaRetomada() {
+        var csvData = ("titulo,autor,genero,periodo\n"
+                + "\"Dom Casmurro\",Machado de Assis,Romance,\"Século\nXIX\"\n"
+                + "O Guarani,José de Alencar,Romance,Século XIX\n").getBytes(StandardCharsets.UTF_8);
+
+        try (var reader = csvService.openBookReader(new ByteArrayInputStream(csvData), null, 20)) {
+            assertEquals(22, reader.next().getLine());
+            assertEquals(22, reader.committedLines());
+
+            assertEquals(24, reader.next().getLine());
+            assertEquals(23, reader.committedLines());
+        }
+    }
+
+    @Test
+    void deveRetomarAspasNaoFechadasNoMeioDoArquivoSomenteQuandoHabilitado() {
+        var csvData = ("titulo,autor,genero,periodo\n"
+                + "\"Dom Casmurro,Machado de Assis,Romance,Realismo\n"
+                + "O Guarani,José de Alencar,Romance,Romantismo\n"
+                + "\"Iracema\",José de Alencar,Romance,Romantismo\n").getBytes(StandardCharsets.UTF_8);
+        var rejeitadas = new ArrayList<RejectedRow>();
+
+        var estrito = new ArrayList<String>();
+        try (var reader = csvService.openBookReader(new ByteArrayInputStream(csvData), rejeitadas::add)) {
+            reader.forEachRemaining(book -> estrito.add(book.getAuthor()));
+        }
+        var retomando = new ArrayList<String>();
+        try (var reader = new CsvService(CsvParserType.NATIVE, 4_096, 1, true)
+                .openBookReader(new ByteArrayInputStream(csvData), rejeitadas::add)) {
+            reader.forEachRemaining(book -> retomando.add(book.getTitle()));
+        }
+
+        assertEquals(List.of("José de Alencar"), estrito);
+        assertEquals(List.of("O Guarani", "Iracema"), retomando);
+        assertEquals(1, rejeitadas.size());
+    }
+
+    @Test
+    void deveInformarDeslocamentoDesconhecidoComParserOpenCsv() {
+        var csvContent = "titulo,autor,genero,periodo\n" +
+                "Dom Casmurro,Machado de Assis,Romance,Século XIX";
+        var inputStream = new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8));
+
+        try (var reader = new CsvService(CsvParserType.OPENCSV).openBookReader(inputStream)) {
+            assertEquals("Dom Casmurro", reader.next().getTitle());
+            assertEquals(BookReader.UNKNOWN_OFFSET, reader.committedOffset());
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.books.domain.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FieldDictionaryTest {
+
+    @Test
+    void deveDevolverMesmaInstanciaParaBytesIguais() {
+        var dictionary = new FieldDictionary(1_000);
+
+        var primeiro = dictionary.intern(bytes("Crônica"), bytes("Crônica").length);
+        var segundo = dictionary.intern(bytes("Crônica|sobra"), bytes("Crônica").length);
+
+        assertEquals("Crônica", primeiro);
+        assertSame(primeiro, segundo);
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    void deveManterValoresAposCrescerATabela() {
+        var dictionary = new FieldDictionary(1_000);
+        var valores = new String[500];
+        for (var index = 0; index < valores.length; index++) {
+            var valor = bytes("Autor " + index);
+            valores[index] = dictionary.intern(valor, valor.length);
+        }
+
+        for (var index = 0; index < valores.length; index++) {
+            var valor = bytes("Autor " + index);
+            assertSame(valores[index], dictionary.intern(valor, valor.length));
+        }
+        assertEquals(500, dictionary.size());
+    }
+
+    @Test
+    void deveRespeitarLimiteDeEntradasEDeTamanho() {
+        var dictionary = new FieldDictionary(2);
+        dictionary.intern(bytes("Romance"), 7);
+        dictionary.intern(bytes("Poesia"), 6);
+
+        var excedente = dictionary.intern(bytes("Teatro"), 6);
+        var longo = bytes("x".repeat(FieldDictionary.MAX_VALUE_LENGTH + 1));
+
+        assertEquals("Teatro", excedente);
+        assertNotSame(excedente, dictionary.intern(bytes("Teatro"), 6));
+        assertNotSame(dictionary.intern(longo, longo.length), dictionary.intern(longo, longo.length));
+        assertEquals(2, dictionary.size());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
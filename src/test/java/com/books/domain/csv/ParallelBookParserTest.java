@@ -0,0 +1,107 @@
+package com.books.domain.csv;
+
+import com.books.domain.book.Book;
+import com.books.domain.exception.ProcessingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelBookParserTest {
+
+    private static final String HEADER = "titulo,autor,genero,periodo\n";
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void deveReutilizarOMesmoPoolEntreParsersComOMesmoParalelismo() {
+        var csv = (HEADER + "Dom Casmurro,Machado de Assis,Romance,Realismo\n").getBytes(StandardCharsets.UTF_8);
+
+        var primeiro = new ParallelBookParser(3, 64);
+        var segundo = new ParallelBookParser(3, 64);
+
+        assertSame(primeiro.pool(), segundo.pool());
+        assertEquals(3, primeiro.pool().getParallelism());
+        assertEquals(1, segundo.parse(csv).size());
+    }
+
+    @Test
+    void deveMesclarBlocosNaOrdemOriginalDasLinhas() {
+        var csv = (HEADER + IntStream.range(0, 2_000)
+                .mapToObj(indice -> "\"Livro, " + indice + "\",Autor " + (indice % 7) + ",Romance,Realismo\r\n")
+                .collect(Collectors.joining())).getBytes(StandardCharsets.UTF_8);
+
+        var books = new ParallelBookParser(pool, 4, 64, 1_024).parse(csv);
+
+        assertMesmoResultado(sequencial(csv), books);
+        assertEquals("Livro, 1999", books.get(1_999).getTitle());
+        assertEquals(2_001, books.get(1_999).getLine());
+    }
+
+    @Test
+    void deveReprocessarBlocoQueComecouDentroDeCampoEntreAspas() {
+        var titulo = "\"" + "linha\n".repeat(400) + "\"";
+        var csv = (HEADER + IntStream.range(0, 20)
+                .mapToObj(indice -> titulo + ",Autor " + indice + ",Romance,Realismo\n")
+                .collect(Collectors.joining())).getBytes(StandardCharsets.UTF_8);
+
+        var books = new ParallelBookParser(pool, 8, 64, 256).parse(csv);
+
+        assertMesmoResultado(sequencial(csv), books);
+        assertEquals(20, books.size());
+    }
+
+    @Test
+    void deveInformarLinhaOriginalQuandoBlocoParaleloFalha() {
+        var linhas = IntStream.range(0, 2_000)
+                .mapToObj(indice -> indice == 1_500 ? "Dom Casmurro,Machado de Assis\n"
+                        : "Livro " + indice + ",Autor,Romance,Realismo\n")
+                .collect(Collectors.joining());
+        var csv = (HEADER + linhas).getBytes(StandardCharsets.UTF_8);
+
+        var exception = assertThrows(ProcessingException.class,
+                () -> new ParallelBookParser(pool, 4, 64, 1_024).parse(csv));
+
+        assertTrue(exception.getMessage().contains("Linha 1502 do CSV"));
+    }
+
+    private static List<Book> sequencial(byte[] csv) {
+        var books = new ArrayList<Book>();
+        var parser = new BookCsvParser();
+        parser.feed(csv, 0, csv.length, books::add);
+        parser.finish(books::add);
+        return books;
+    }
+
+    private static void assertMesmoResultado(List<Book> esperado, List<Book> obtido) {
+        assertEquals(esperado.size(), obtido.size());
+        for (var indice = 0; indice < esperado.size(); indice++) {
+            assertEquals(esperado.get(indice).getTitle(), obtido.get(indice).getTitle());
+            assertEquals(esperado.get(indice).getAuthor(), obtido.get(indice).getAuthor());
+            assertEquals(esperado.get(indice).getGenre(), obtido.get(indice).getGenre());
+            assertEquals(esperado.get(indice).getPeriod(), obtido.get(indice).getPeriod());
+            assertEquals(esperado.get(indice).getLine(), obtido.get(indice).getLine());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.books.load;
+
+import com.books.application.BookApplication;
+import com.books.application.BookDeduplicator;
+import com.books.application.ConcurrentBookWriter;
+import com.books.application.RejectFileWriter;
+import com.books.core.Configuration;
+import com.books.core.metrics.MetricsEmitter;
+import com.books.domain.book.BookMapperImpl;
+import com.books.domain.csv.CsvService;
+import com.books.repository.dynamo.BookRepository;
+import com.books.repository.dynamo.CheckpointRepository;
+import com.books.repository.s3.S3Bucket;
+import com.books.support.InMemoryDynamoDbClient;
+import com.books.support.InMemoryS3Client;
+import com.books.support.ServiceProfile;
+import com.books.support.SimulatedDynamoDbClient;
+import com.books.support.SimulatedS3Client;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+class BookApplicationLoadTest {
+
+    private static final String FILE_NAME = "carga.csv";
+
+    private final int rows = Integer.getInteger("load.rows", 100_000);
+    private final long minRowsPerSecond = Long.getLong("load.min-rows-per-second", 0);
+    private final long maxWriteP99Millis = Long.getLong("load.max-write-p99-ms", 0);
+
+    private final ServiceProfile s3Profile = ServiceProfile.ideal()
+            .withLatency(Duration.ofMillis(Long.getLong("load.s3.latency-ms", 20)))
+            .withBandwidth(Long.getLong("load.s3.bytes-per-second", 20L * 1024 * 1024));
+
+    private final ServiceProfile dynamoDbProfile = ServiceProfile.ideal()
+            .withLatency(Duration.ofMillis(Long.getLong("load.dynamodb.latency-ms", 10)))
+            .withThrottling(Double.parseDouble(System.getProperty("load.dynamodb.throttle-rate", "0.05")),
+                    Double.parseDouble(System.getProperty("load.dynamodb.unprocessed-rate", "0.05")));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"buffered", "streaming"})
+    void deveProcessarArquivoGrandeComLatenciaEThrottlingSimulados(String pipeline) {
+        var configuration = new Configuration();
+        var csv = criarCsv(rows);
+        var inMemoryS3Client = new InMemoryS3Client();
+        inMemoryS3Client.putObject(URI.create(configuration.getS3Url()).getHost(), FILE_NAME, csv);
+
+        var s3Client = new SimulatedS3Client(inMemoryS3Client, s3Profile);
+        var dynamoDbClient = new SimulatedDynamoDbClient(new InMemoryDynamoDbClient("autor", "genero", 1_000),
+                dynamoDbProfile);
+        var bookApplication = criarAplicacao(configuration, s3Client, dynamoDbClient);
+
+        var heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        var startedAt = System.nanoTime();
+
+        if ("streaming".equals(pipeline)) {
+            bookApplication.processCsvFileStreaming(FILE_NAME);
+        } else {
+            bookApplication.processCsvFile(FILE_NAME);
+        }
+
+        var elapsedNanos = System.nanoTime() - startedAt;
+        var peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        var rowsPerSecond = rows / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        var writes = dynamoDbClient.writeLatencies();
+
+        System.out.printf("[carga] pipeline=%s linhas=%d bytes=%d tempo=%d ms linhas/s=%.0f "
+                        + "escritas=%d throttled=%d não processados=%d p50=%.1f ms p95=%.1f ms p99=%.1f ms "
+                        + "leituras S3=%d heap máximo=%d MiB%n",
+                pipeline, rows, csv.length, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond,
+                writes.requests(), dynamoDbClient.throttledRequests(), dynamoDbClient.unprocessedItems(),
+                writes.percentileMillis(50), writes.percentileMillis(95), writes.percentileMillis(99),
+                s3Client.latencies().requests(), peakHeapBytes / (1024 * 1024));
+
+        assertEquals(rows, dynamoDbClient.size());
+        if (minRowsPerSecond > 0) {
+            assertTrue(rowsPerSecond >= minRowsPerSecond,
+                    String.format("Vazão de %.0f linhas/s abaixo do mínimo de %d", rowsPerSecond, minRowsPerSecond));
+        }
+        if (maxWriteP99Millis > 0) {
+            assertTrue(writes.percentileMillis(99) <= maxWriteP99Millis,
+                    String.format("p99 de escrita de %.1f ms acima do máximo de %d ms", writes.percentileMillis(99),
+                            maxWriteP99Millis));
+        }
+    }
+
+    private static BookApplication criarAplicacao(Configuration configuration, SimulatedS3Client s3Client,
+            SimulatedDynamoDbClient dynamoDbClient) {
+        var enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build();
+        var bookRepository = new BookRepository(dynamoDbClient, enhancedClient, configuration);
+        var s3Bucket = new S3Bucket(s3Client, configuration);
+        return new BookApplication(s3Bucket, new CsvService(configuration),
+                new BookMapperImpl(), new BookDeduplicator(configuration),
+                new ConcurrentBookWriter(bookRepository, configuration),
+                new MetricsEmitter(configuration.getMetricsNamespace(), false, System.out),
+                new CheckpointRepository(new InMemoryDynamoDbClient("arquivo", null, 1_000), configuration),
+                new RejectFileWriter(s3Bucket, configuration));
+    }
+
+    private static byte[] criarCsv(int rows) {
+        var generos = List.of("Romance", "Poesia", "Conto", "Crônica", "Teatro");
+        var output = new ByteArrayOutputStream(rows * 64);
+        output.writeBytes("titulo,autor,genero,periodo\n".getBytes(StandardCharsets.UTF_8));
+        for (var index = 0; index < rows; index++) {
+            output.writeBytes(String.format("Livro %d,Autor %d,%s,Modernismo\n", index, index / generos.size(),
+                    generos.get(index % generos.size())).getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+}
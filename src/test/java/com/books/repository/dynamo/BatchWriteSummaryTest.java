@@ -0,0 +1,48 @@
+package com.books.repository.dynamo;
+
+import com.books.repository.dynamo.entity.BookEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchWriteSummaryTest {
+
+    @Test
+    void deveSomarContadoresEManterItensComFalhaNaOrdemDosLotes() {
+        var dom = criarBookEntity("Machado de Assis");
+        var iracema = criarBookEntity("José de Alencar");
+
+        var summary = BatchWriteSummary.accumulator()
+                .add(new BatchWriteSummary(25, 1, 2, 3, 1, 1, List.of(dom)))
+                .add(BatchWriteSummary.empty())
+                .add(new BatchWriteSummary(10, 0, 1, 2, 2, 1, List.of(iracema)))
+                .toSummary();
+
+        assertEquals(new BatchWriteSummary(35, 1, 3, 5, 3, 2, List.of(dom, iracema)), summary);
+        assertThrows(UnsupportedOperationException.class, () -> summary.failedItems().add(dom));
+    }
+
+    @Test
+    void deveNaoAlterarResumoJaGeradoAoAcumularNovosLotes() {
+        var accumulator = BatchWriteSummary.accumulator()
+                .add(new BatchWriteSummary(1, 0, 0, 0, 0, 1, List.of(criarBookEntity("Machado de Assis"))));
+
+        var summary = accumulator.toSummary();
+        accumulator.add(new BatchWriteSummary(0, 0, 0, 0, 0, 1, List.of(criarBookEntity("José de Alencar"))));
+
+        assertEquals(1, summary.failedItems().size());
+        assertEquals(2, accumulator.toSummary().failedItems().size());
+    }
+
+    private BookEntity criarBookEntity(String autor) {
+        var bookEntity = new BookEntity();
+        bookEntity.setAuthor(autor);
+        bookEntity.setGenre("Romance");
+        bookEntity.setTitle("Dom Casmurro");
+        bookEntity.setPeriod("Século XIX");
+        return bookEntity;
+    }
+}
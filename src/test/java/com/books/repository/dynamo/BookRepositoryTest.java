@@ -1,7 +1,10 @@
 package com.books.repository.dynamo;
 
 import com.books.core.Configuration;
+import com.books.domain.exception.ProcessingException;
 import com.books.repository.dynamo.entity.BookEntity;
+import com.books.repository.dynamo.entity.BookKey;
+import com.books.repository.dynamo.entity.ContentHash;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,21 +13,45 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BookRepositoryTest {
 
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
     @Mock
     private DynamoDbEnhancedClient dynamoDbEnhancedClient;
 
@@ -40,9 +67,13 @@ class BookRepositoryTest {
     @SuppressWarnings("unchecked")
     void setUp() {
         when(configuration.getBooksTableName()).thenReturn("books");
+        lenient().when(configuration.getBatchWriteMaxAttempts()).thenReturn(3);
+        lenient().when(configuration.getBatchGetConcurrency()).thenReturn(2);
+        lenient().when(bookTable.tableName()).thenReturn("books");
+        lenient().when(bookTable.tableSchema()).thenReturn(TableSchema.fromBean(BookEntity.class));
         when(dynamoDbEnhancedClient.table(anyString(), any(TableSchema.class)))
                 .thenReturn(bookTable);
-        bookRepository = new BookRepository(dynamoDbEnhancedClient, configuration);
+        bookRepository = new BookRepository(dynamoDbClient, dynamoDbEnhancedClient, configuration);
     }
 
     @Test
@@ -95,10 +126,430 @@ class BookRepositoryTest {
         verify(bookTable).deleteItem(any(Consumer.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveAgruparLivrosEmLotesDeVinteECinco() {
+        var entities = IntStream.range(0, 30)
+                .mapToObj(index -> criarBookEntity("Autor " + index, "Romance"))
+                .toList();
+        var requests = capturarRequisicoesDeLote(List.of(List.of(), List.of()));
+
+        var summary = bookRepository.saveAll(entities);
+
+        verify(dynamoDbEnhancedClient, times(2)).batchWriteItem(any(Consumer.class));
+        assertEquals(25, requests.get(0).writeBatches().iterator().next().writeRequests().size());
+        assertEquals(5, requests.get(1).writeBatches().iterator().next().writeRequests().size());
+        assertEquals(30, summary.written());
+        assertEquals(0, summary.retried());
+        assertEquals(0, summary.failed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveReenviarItensNaoProcessados() {
+        var primeiro = criarBookEntity("Machado de Assis", "Romance");
+        var segundo = criarBookEntity("José de Alencar", "Romance");
+        var requests = capturarRequisicoesDeLote(List.of(List.of(segundo), List.of()));
+
+        var summary = bookRepository.saveAll(List.of(primeiro, segundo));
+
+        verify(dynamoDbEnhancedClient, times(2)).batchWriteItem(any(Consumer.class));
+        assertEquals(1, requests.get(1).writeBatches().iterator().next().writeRequests().size());
+        assertEquals(2, summary.written());
+        assertEquals(1, summary.retried());
+        assertEquals(0, summary.failed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveReenviarLoteQuandoCapacidadeProvisionadaExcedida() {
+        var entity = criarBookEntity();
+        var result = mock(BatchWriteResult.class);
+        when(result.unprocessedPutItemsForTable(bookTable)).thenReturn(List.of());
+        when(dynamoDbEnhancedClient.batchWriteItem(any(Consumer.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("Throughput exceeded").build())
+                .thenReturn(result);
+
+        var summary = bookRepository.saveAll(List.of(entity));
+
+        verify(dynamoDbEnhancedClient, times(2)).batchWriteItem(any(Consumer.class));
+        assertEquals(1, summary.written());
+        assertEquals(1, summary.retried());
+        assertEquals(1, bookRepository.getWriteRateLimiter().throttleCount());
+    }
+
+    @Test
+    void deveSolicitarCapacidadeConsumidaNaEscritaEmLote() {
+        var requests = capturarRequisicoesDeLote(List.of(List.of()));
+
+        bookRepository.saveAll(List.of(criarBookEntity()));
+
+        assertEquals(ReturnConsumedCapacity.TOTAL, requests.get(0).returnConsumedCapacity());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveReportarFalhaQuandoTentativasEsgotadas() {
+        var entity = criarBookEntity();
+        capturarRequisicoesDeLote(List.of(List.of(entity), List.of(entity), List.of(entity)));
+
+        var summary = bookRepository.saveAll(List.of(entity));
+
+        verify(dynamoDbEnhancedClient, times(3)).batchWriteItem(any(Consumer.class));
+        assertEquals(0, summary.written());
+        assertEquals(2, summary.retried());
+        assertEquals(1, summary.failed());
+        assertEquals(List.of(entity), summary.failedItems());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveManterUltimaOcorrenciaDeChaveRepetidaNoMesmoLote() {
+        var primeiro = criarBookEntity("Machado de Assis", "Romance");
+        var segundo = criarBookEntity("Machado de Assis", "Romance");
+        var requests = capturarRequisicoesDeLote(List.of(List.of()));
+
+        var summary = bookRepository.saveAll(List.of(primeiro, segundo));
+
+        assertEquals(1, requests.get(0).writeBatches().iterator().next().writeRequests().size());
+        assertEquals(1, summary.written());
+        assertEquals(1, summary.collapsed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarSomenteLivrosNovosOuAlterados() {
+        var semAlteracao = criarBookEntityComHash("Machado de Assis", "Romance");
+        var alterado = criarBookEntityComHash("José de Alencar", "Romance");
+        var novo = criarBookEntityComHash("Aluísio Azevedo", "Romance");
+        var armazenadoAlterado = criarBookEntityComHash("José de Alencar", "Romance");
+        armazenadoAlterado.setContentHash(alterado.getContentHash() + 1);
+        bookRepository = criarRepositorioIgnorandoSemAlteracao();
+        var leituras = simularLeituraEmLote(
+                List.of(criarBookEntityComHash("Machado de Assis", "Romance"), armazenadoAlterado));
+        var requests = capturarRequisicoesDeLote(List.of(List.of()));
+
+        var summary = bookRepository.saveAll(List.of(semAlteracao, alterado, novo));
+
+        var gravados = requests.get(0).writeBatches().iterator().next().writeRequests();
+        assertEquals(2, gravados.size());
+        assertEquals(2, summary.written());
+        assertEquals(1, summary.skipped());
+        assertEquals(Map.of("#p0", "autor", "#p1", "genero", "#p2", "hash"),
+                leituras.get(0).requestItems().get("books").expressionAttributeNames());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveConciliarGravadosIgnoradosEColapsadosComOQueFoiEnviado() {
+        bookRepository = criarRepositorioIgnorandoSemAlteracao();
+        simularLeituraEmLote(List.of(criarBookEntityComHash("Machado de Assis", "Romance")));
+        var requests = capturarRequisicoesDeLote(List.of(List.of()));
+
+        var summary = bookRepository.saveAll(List.of(criarBookEntityComHash("José de Alencar", "Romance"),
+                criarBookEntityComHash("José de Alencar", "Romance"),
+                criarBookEntityComHash("Machado de Assis", "Romance")));
+
+        var gravados = requests.get(0).writeBatches().iterator().next().writeRequests();
+        assertEquals(gravados.size(), summary.written());
+        assertEquals(1, summary.written());
+        assertEquals(1, summary.skipped());
+        assertEquals(1, summary.collapsed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveNaoEnviarLoteQuandoNenhumLivroMudou() {
+        var entity = criarBookEntityComHash("Machado de Assis", "Romance");
+        bookRepository = criarRepositorioIgnorandoSemAlteracao();
+        simularLeituraEmLote(List.of(criarBookEntityComHash("Machado de Assis", "Romance")));
+
+        var summary = bookRepository.saveAll(List.of(entity));
+
+        verify(dynamoDbEnhancedClient, never()).batchWriteItem(any(Consumer.class));
+        assertEquals(0, summary.written());
+        assertEquals(1, summary.skipped());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarSemLeituraPreviaQuandoLivrosNaoTemHash() {
+        bookRepository = criarRepositorioIgnorandoSemAlteracao();
+        capturarRequisicoesDeLote(List.of(List.of()));
+
+        var summary = bookRepository.saveAll(List.of(criarBookEntity()));
+
+        verify(dynamoDbClient, never()).batchGetItem(any(BatchGetItemRequest.class));
+        assertEquals(1, summary.written());
+        assertEquals(0, summary.skipped());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarLivrosQuandoLeituraPreviaDeixaChavesNaoProcessadas() {
+        var semAlteracao = criarBookEntityComHash("Machado de Assis", "Romance");
+        var outro = criarBookEntityComHash("José de Alencar", "Romance");
+        bookRepository = criarRepositorioIgnorandoSemAlteracao();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            return BatchGetItemResponse.builder()
+                    .unprocessedKeys(Map.of("books", request.requestItems().get("books")))
+                    .build();
+        });
+        var requests = capturarRequisicoesDeLote(List.of(List.of()));
+
+        var summary = bookRepository.saveAll(List.of(semAlteracao, outro));
+
+        verify(dynamoDbClient, times(3)).batchGetItem(any(BatchGetItemRequest.class));
+        assertEquals(2, requests.get(0).writeBatches().iterator().next().writeRequests().size());
+        assertEquals(2, summary.written());
+        assertEquals(0, summary.skipped());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarLivrosQuandoLeituraPreviaExcedeCapacidade() {
+        bookRepository = criarRepositorioIgnorandoSemAlteracao();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("limite").build());
+        capturarRequisicoesDeLote(List.of(List.of()));
+
+        var summary = bookRepository.saveAll(List.of(criarBookEntityComHash("Machado de Assis", "Romance")));
+
+        assertEquals(1, summary.written());
+        assertEquals(0, summary.skipped());
+    }
+
+    @Test
+    void deveBuscarChavesEmLotesDeCem() {
+        var armazenados = IntStream.range(0, 250)
+                .mapToObj(index -> criarBookEntity("Autor " + index, "Romance"))
+                .toList();
+        var chaves = armazenados.stream().map(BookKey::of).toList();
+        var requests = simularLeituraEmLote(armazenados);
+
+        var encontrados = bookRepository.findAll(chaves);
+
+        assertEquals(250, encontrados.size());
+        assertEquals(armazenados.get(120).getTitle(), encontrados.get(chaves.get(120)).getTitle());
+        assertEquals(List.of(50, 100, 100), requests.stream()
+                .map(request -> request.requestItems().get("books").keys().size())
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    void deveIgnorarChavesRepetidasEAusentes() {
+        var armazenado = criarBookEntity("Machado de Assis", "Romance");
+        var requests = simularLeituraEmLote(List.of(armazenado));
+
+        var encontrados = bookRepository.findAll(List.of(BookKey.of(armazenado), BookKey.of(armazenado),
+                new BookKey("Autor Inexistente", "Romance")));
+
+        assertEquals(Map.of(BookKey.of(armazenado), armazenado).keySet(), encontrados.keySet());
+        assertEquals(2, requests.get(0).requestItems().get("books").keys().size());
+    }
+
+    @Test
+    void deveProjetarSomenteAtributosSolicitados() {
+        var requests = simularLeituraEmLote(List.of(criarBookEntity()));
+
+        var encontrados = bookRepository.findAll(List.of(new BookKey("Machado de Assis", "Romance")), "titulo");
+
+        var keysAndAttributes = requests.get(0).requestItems().get("books");
+        assertEquals("#p0, #p1, #p2", keysAndAttributes.projectionExpression());
+        assertEquals(Map.of("#p0", "autor", "#p1", "genero", "#p2", "titulo"),
+                keysAndAttributes.expressionAttributeNames());
+        assertEquals(1, encontrados.size());
+    }
+
+    @Test
+    void deveReenviarChavesNaoProcessadas() {
+        var armazenado = criarBookEntity();
+        var chave = Map.of("autor", AttributeValue.fromS("Machado de Assis"),
+                "genero", AttributeValue.fromS("Romance"));
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(
+                BatchGetItemResponse.builder()
+                        .unprocessedKeys(Map.of("books", KeysAndAttributes.builder().keys(List.of(chave)).build()))
+                        .build(),
+                BatchGetItemResponse.builder()
+                        .responses(Map.of("books", List.of(TableSchema.fromBean(BookEntity.class)
+                                .itemToMap(armazenado, true))))
+                        .build());
+
+        var encontrados = bookRepository.findAll(List.of(BookKey.of(armazenado)));
+
+        verify(dynamoDbClient, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+        assertEquals(1, encontrados.size());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoChavesContinuamNaoProcessadas() {
+        var chave = Map.of("autor", AttributeValue.fromS("Machado de Assis"),
+                "genero", AttributeValue.fromS("Romance"));
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(
+                BatchGetItemResponse.builder()
+                        .unprocessedKeys(Map.of("books", KeysAndAttributes.builder().keys(List.of(chave)).build()))
+                        .build());
+
+        assertThrows(ProcessingException.class,
+                () -> bookRepository.findAll(List.of(new BookKey("Machado de Assis", "Romance"))));
+        verify(dynamoDbClient, times(3)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void deveConsultarTodasAsPaginasDoAutor() {
+        var requests = simularConsultaPaginada(List.of(
+                List.of(criarBookEntity("Machado de Assis", "Conto"), criarBookEntity("Machado de Assis", "Crônica")),
+                List.of(criarBookEntity("Machado de Assis", "Poesia")),
+                List.of(criarBookEntity("Machado de Assis", "Romance"))));
+
+        List<String> generos;
+        try (var livros = bookRepository.queryByAuthor("Machado de Assis")) {
+            generos = livros.map(BookEntity::getGenre).toList();
+        }
+
+        assertEquals(List.of("Conto", "Crônica", "Poesia", "Romance"), generos);
+        assertEquals(3, requests.size());
+        assertEquals("#pk = :autor", requests.get(0).keyConditionExpression());
+        assertEquals(Map.of("#pk", "autor"), requests.get(0).expressionAttributeNames());
+        assertEquals(Map.of(), requests.get(0).exclusiveStartKey());
+        assertEquals("1", requests.get(1).exclusiveStartKey().get("pagina").s());
+    }
+
+    @Test
+    void deveNaoConsultarAntesDoPrimeiroConsumo() {
+        simularConsultaPaginada(List.of(List.of(criarBookEntity("Machado de Assis", "Conto"))));
+
+        try (var livros = bookRepository.queryByAuthor("Machado de Assis")) {
+            verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+
+            assertEquals("Conto", livros.findFirst().orElseThrow().getGenre());
+            verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
+        }
+    }
+
+    @Test
+    void deveBuscarProximaPaginaEnquantoAtualEConsumida() {
+        simularConsultaPaginada(List.of(
+                List.of(criarBookEntity("Machado de Assis", "Conto"), criarBookEntity("Machado de Assis", "Crônica")),
+                List.of(criarBookEntity("Machado de Assis", "Romance"))));
+
+        try (var livros = bookRepository.queryByAuthor("Machado de Assis")) {
+            var iterator = livros.iterator();
+            assertEquals("Conto", iterator.next().getGenre());
+
+            verify(dynamoDbClient, timeout(1_000).times(2)).query(any(QueryRequest.class));
+        }
+    }
+
+    @Test
+    void deveAplicarIntervaloDeGeneroEProjecaoNaConsulta() {
+        var requests = simularConsultaPaginada(List.of(List.of(criarBookEntity("Machado de Assis", "Conto"))));
+
+        try (var livros = bookRepository.queryByAuthor("Machado de Assis", GenreRange.between("C", "P"), "titulo")) {
+            assertEquals(1, livros.count());
+        }
+
+        var request = requests.get(0);
+        assertEquals("#pk = :autor AND #sk BETWEEN :de AND :ate", request.keyConditionExpression());
+        assertEquals("#p0, #p1, #p2", request.projectionExpression());
+        assertEquals(Map.of("#pk", "autor", "#sk", "genero", "#p0", "autor", "#p1", "genero", "#p2", "titulo"),
+                request.expressionAttributeNames());
+        assertEquals("C", request.expressionAttributeValues().get(":de").s());
+        assertEquals("P", request.expressionAttributeValues().get(":ate").s());
+    }
+
+    @Test
+    void deveAplicarLimiteInferiorDeGenero() {
+        var requests = simularConsultaPaginada(List.of(List.of()));
+
+        try (var livros = bookRepository.queryByAuthor("Machado de Assis", GenreRange.atLeast("R"))) {
+            assertEquals(0, livros.count());
+        }
+
+        assertEquals("#pk = :autor AND #sk >= :de", requests.get(0).keyConditionExpression());
+    }
+
+    private List<QueryRequest> simularConsultaPaginada(List<List<BookEntity>> paginas) {
+        var requests = Collections.synchronizedList(new ArrayList<QueryRequest>());
+        var schema = TableSchema.fromBean(BookEntity.class);
+
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            requests.add(request);
+
+            var pagina = request.exclusiveStartKey().isEmpty()
+                    ? 0
+                    : Integer.parseInt(request.exclusiveStartKey().get("pagina").s());
+            var response = QueryResponse.builder()
+                    .items(paginas.get(pagina).stream().map(item -> schema.itemToMap(item, true)).toList());
+            if (pagina + 1 < paginas.size()) {
+                response.lastEvaluatedKey(Map.of("pagina", AttributeValue.fromS(String.valueOf(pagina + 1))));
+            }
+            return response.build();
+        });
+
+        return requests;
+    }
+
+    private BookRepository criarRepositorioIgnorandoSemAlteracao() {
+        when(configuration.isSkipUnchanged()).thenReturn(true);
+        return new BookRepository(dynamoDbClient, dynamoDbEnhancedClient, configuration);
+    }
+
+    private List<BatchGetItemRequest> simularLeituraEmLote(List<BookEntity> armazenados) {
+        var requests = Collections.synchronizedList(new ArrayList<BatchGetItemRequest>());
+        var schema = TableSchema.fromBean(BookEntity.class);
+
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+
+            var items = request.requestItems().get("books").keys().stream()
+                    .map(key -> new BookKey(key.get("autor").s(), key.get("genero").s()))
+                    .map(key -> armazenados.stream().filter(item -> BookKey.of(item).equals(key)).findFirst())
+                    .flatMap(Optional::stream)
+                    .map(item -> schema.itemToMap(item, true))
+                    .toList();
+            return BatchGetItemResponse.builder().responses(Map.of("books", items)).build();
+        });
+
+        return requests;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BatchWriteItemEnhancedRequest> capturarRequisicoesDeLote(List<List<BookEntity>> naoProcessados) {
+        var requests = new ArrayList<BatchWriteItemEnhancedRequest>();
+        var respostas = naoProcessados.iterator();
+
+        when(dynamoDbEnhancedClient.batchWriteItem(any(Consumer.class))).thenAnswer(invocation -> {
+            var builder = BatchWriteItemEnhancedRequest.builder();
+            invocation.<Consumer<BatchWriteItemEnhancedRequest.Builder>>getArgument(0).accept(builder);
+            requests.add(builder.build());
+
+            var result = mock(BatchWriteResult.class);
+            when(result.unprocessedPutItemsForTable(bookTable)).thenReturn(respostas.next());
+            return result;
+        });
+
+        return requests;
+    }
+
     private BookEntity criarBookEntity() {
+        return criarBookEntity("Machado de Assis", "Romance");
+    }
+
+    private BookEntity criarBookEntityComHash(String autor, String genero) {
+        var bookEntity = criarBookEntity(autor, genero);
+        bookEntity.setContentHash(ContentHash.of(bookEntity));
+        return bookEntity;
+    }
+
+    private BookEntity criarBookEntity(String autor, String genero) {
         var bookEntity = new BookEntity();
-        bookEntity.setAuthor("Machado de Assis");
-        bookEntity.setGenre("Romance");
+        bookEntity.setAuthor(autor);
+        bookEntity.setGenre(genero);
         bookEntity.setTitle("Dom Casmurro");
         bookEntity.setPeriod("Século XIX");
         return bookEntity;
@@ -0,0 +1,175 @@
+package com.books.repository.dynamo;
+
+import com.books.core.Configuration;
+import com.books.repository.dynamo.entity.BookEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBookRepositoryTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private DynamoDbEnhancedClient dynamoDbEnhancedClient;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private DynamoDbTable<BookEntity> bookTable;
+
+    private final AtomicLong agora = new AtomicLong();
+
+    private CachingBookRepository bookRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(configuration.getBooksTableName()).thenReturn("books");
+        lenient().when(configuration.getBatchWriteMaxAttempts()).thenReturn(1);
+        when(configuration.getCacheMaxEntries()).thenReturn(2);
+        when(configuration.getCacheTtlMillis()).thenReturn(1_000L);
+        when(configuration.getCacheNegativeTtlMillis()).thenReturn(100L);
+        lenient().when(bookTable.tableName()).thenReturn("books");
+        lenient().when(bookTable.tableSchema()).thenReturn(TableSchema.fromBean(BookEntity.class));
+        when(dynamoDbEnhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(bookTable);
+        bookRepository = new CachingBookRepository(dynamoDbClient, dynamoDbEnhancedClient, configuration, agora::get);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveServirBuscasRepetidasDoCache() {
+        var entity = criarBookEntity("Machado de Assis");
+        when(bookTable.getItem(any(Consumer.class))).thenReturn(entity);
+
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        var resultado = bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+
+        assertEquals("Dom Casmurro", resultado.orElseThrow().getTitle());
+        verify(bookTable, times(1)).getItem(any(Consumer.class));
+        assertEquals(new CacheStats(1, 1, 0, 0, 1), bookRepository.stats());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveProtegerEntradaDoCacheDeAlteracoesDoChamador() {
+        when(bookTable.getItem(any(Consumer.class))).thenReturn(criarBookEntity("Machado de Assis"));
+
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance").orElseThrow().setTitle("Alterado");
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance").orElseThrow().setTitle("Alterado");
+        var resultado = bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+
+        assertEquals("Dom Casmurro", resultado.orElseThrow().getTitle());
+        assertEquals(2, bookRepository.stats().hits());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveBuscarNovamenteAposExpirarTtl() {
+        when(bookTable.getItem(any(Consumer.class))).thenReturn(criarBookEntity("Machado de Assis"));
+
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+
+        verify(bookTable, times(2)).getItem(any(Consumer.class));
+        assertEquals(1, bookRepository.stats().expirations());
+        assertEquals(0, bookRepository.stats().evictions());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveManterAusenciaEmCachePorTempoMenor() {
+        when(bookTable.getItem(any(Consumer.class))).thenReturn(null);
+
+        bookRepository.findByAutorAndGenero("Autor Inexistente", "Romance");
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        var resultado = bookRepository.findByAutorAndGenero("Autor Inexistente", "Romance");
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        bookRepository.findByAutorAndGenero("Autor Inexistente", "Romance");
+
+        assertEquals(Optional.empty(), resultado);
+        verify(bookTable, times(2)).getItem(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveDescartarEntradaMenosUsadaQuandoCacheCheio() {
+        when(bookTable.getItem(any(Consumer.class))).thenAnswer(invocation -> criarBookEntity("Autor"));
+
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        bookRepository.findByAutorAndGenero("José de Alencar", "Romance");
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        bookRepository.findByAutorAndGenero("Aluísio Azevedo", "Romance");
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        bookRepository.findByAutorAndGenero("José de Alencar", "Romance");
+
+        verify(bookTable, times(4)).getItem(any(Consumer.class));
+        assertEquals(new CacheStats(2, 4, 2, 0, 2), bookRepository.stats());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveInvalidarEntradaAoSalvarEAoDeletar() {
+        var entity = criarBookEntity("Machado de Assis");
+        when(bookTable.getItem(any(Consumer.class))).thenReturn(entity);
+
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        bookRepository.save(entity);
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        bookRepository.delete("Machado de Assis", "Romance");
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+
+        verify(bookTable, times(3)).getItem(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveInvalidarEntradasGravadasEmLote() {
+        var entity = criarBookEntity("Machado de Assis");
+        when(bookTable.getItem(any(Consumer.class))).thenReturn(entity);
+        var result = mock(BatchWriteResult.class);
+        when(result.unprocessedPutItemsForTable(bookTable)).thenReturn(List.of());
+        when(dynamoDbEnhancedClient.batchWriteItem(any(Consumer.class))).thenReturn(result);
+
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+        bookRepository.saveAll(List.of(entity));
+        bookRepository.findByAutorAndGenero("Machado de Assis", "Romance");
+
+        verify(bookTable, times(2)).getItem(any(Consumer.class));
+    }
+
+    private BookEntity criarBookEntity(String autor) {
+        var bookEntity = new BookEntity();
+        bookEntity.setAuthor(autor);
+        bookEntity.setGenre("Romance");
+        bookEntity.setTitle("Dom Casmurro");
+        bookEntity.setPeriod("Século XIX");
+        return bookEntity;
+    }
+}
@@ -0,0 +1,61 @@
+package com.books.repository.dynamo;
+
+import com.books.core.Configuration;
+import com.books.support.InMemoryDynamoDbClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointRepositoryTest {
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+    private CheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getCheckpointTableName()).thenReturn("books-checkpoints");
+        when(configuration.isCheckpointEnabled()).thenReturn(true);
+        when(configuration.getCheckpointIntervalRows()).thenReturn(0);
+        dynamoDbClient = new InMemoryDynamoDbClient("arquivo", null, 100);
+        checkpointRepository = new CheckpointRepository(dynamoDbClient, configuration);
+    }
+
+    @Test
+    void deveSalvarELerCheckpointDoArquivo() {
+        var checkpoint = new Checkpoint("dados/books.csv", "\"etag\"", 4_096, 120, 28, 121);
+
+        checkpointRepository.save(checkpoint);
+
+        assertEquals(Optional.of(checkpoint), checkpointRepository.find("dados/books.csv"));
+        assertTrue(checkpointRepository.isEnabled());
+        assertEquals(1, checkpointRepository.getIntervalRows());
+    }
+
+    @Test
+    void deveSobrescreverERemoverCheckpoint() {
+        checkpointRepository.save(new Checkpoint("dados/books.csv", "\"etag\"", 4_096, 120, 28, 121));
+        checkpointRepository.save(new Checkpoint("dados/books.csv", "\"etag\"", -1, 240, -1, 0));
+
+        var checkpoint = checkpointRepository.find("dados/books.csv").orElseThrow();
+        assertEquals(240, checkpoint.rows());
+        assertFalse(checkpoint.hasOffset());
+
+        checkpointRepository.delete("dados/books.csv");
+
+        assertTrue(checkpointRepository.find("dados/books.csv").isEmpty());
+        assertEquals(0, dynamoDbClient.size());
+    }
+}
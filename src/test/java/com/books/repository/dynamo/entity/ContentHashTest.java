@@ -0,0 +1,42 @@
+package com.books.repository.dynamo.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ContentHashTest {
+
+    @Test
+    void deveGerarMesmoHashParaMesmoConteudo() {
+        assertEquals(ContentHash.of(criarLivro("Dom Casmurro", "Realismo")),
+                ContentHash.of(criarLivro("Dom Casmurro", "Realismo")));
+    }
+
+    @Test
+    void deveGerarHashDiferenteQuandoConteudoMuda() {
+        assertNotEquals(ContentHash.of(criarLivro("Dom Casmurro", "Realismo")),
+                ContentHash.of(criarLivro("Dom Casmurro", "Romantismo")));
+    }
+
+    @Test
+    void deveDistinguirCamposConcatenadosDeFormaDiferente() {
+        assertNotEquals(ContentHash.of(criarLivro("Dom Casmurro", "Realismo")),
+                ContentHash.of(criarLivro("Dom CasmurroRealismo", "")));
+    }
+
+    @Test
+    void deveDistinguirCampoNuloDeCampoVazio() {
+        assertNotEquals(ContentHash.of(criarLivro("Dom Casmurro", null)),
+                ContentHash.of(criarLivro("Dom Casmurro", "")));
+    }
+
+    private BookEntity criarLivro(String titulo, String periodo) {
+        var entity = new BookEntity();
+        entity.setAuthor("Machado de Assis");
+        entity.setGenre("Romance");
+        entity.setTitle(titulo);
+        entity.setPeriod(periodo);
+        return entity;
+    }
+}
@@ -0,0 +1,100 @@
+package com.books.repository.s3;
+
+import com.books.core.Configuration;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3BucketCompressedReadTest {
+
+    private static final String BUCKET = "example-bucket";
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryS3Client s3Client;
+    private S3Bucket s3Bucket;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getS3Url()).thenReturn("s3://example-bucket/path/to/files");
+        lenient().when(configuration.getS3RangeSizeBytes()).thenReturn(1024);
+        lenient().when(configuration.getS3RangeConcurrency()).thenReturn(3);
+        s3Client = new InMemoryS3Client();
+        s3Bucket = new S3Bucket(s3Client, configuration);
+    }
+
+    @Test
+    void deveDescompactarArquivoGzBaixadoEmIntervalos() throws IOException {
+        var content = criarCsv(5_000);
+        var compressed = gzip(content);
+        s3Client.putObject(BUCKET, "path/to/files/books.csv.gz", compressed);
+
+        try (var inputStream = s3Bucket.openFileAsRangedStream("books.csv.gz").orElseThrow()) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+
+        assertTrue(compressed.length < content.length / 4);
+        assertTrue(s3Client.requestedRanges().size() > 1);
+    }
+
+    @Test
+    void deveDescompactarArquivoComContentEncodingGzip() throws IOException {
+        var content = criarCsv(10);
+        s3Client.putObject(BUCKET, "path/to/files/books.csv", gzip(content), "gzip");
+
+        try (var inputStream = s3Bucket.openFileAsRangedStream("books.csv").orElseThrow()) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void deveDescompactarArquivoGzLidoComoBytes() {
+        var content = criarCsv(100);
+        s3Client.putObject(BUCKET, "path/to/files/books.csv.gz", gzip(content));
+
+        assertArrayEquals(content, s3Bucket.readFileAsBytes("books.csv.gz").orElseThrow());
+    }
+
+    @Test
+    void deveRetornarOptionalVazioQuandoArquivoGzEstaCorrompido() {
+        s3Client.putObject(BUCKET, "path/to/files/books.csv.gz", criarCsv(10));
+
+        assertFalse(s3Bucket.openFileAsStream("books.csv.gz").isPresent());
+    }
+
+    private static byte[] gzip(byte[] content) {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] criarCsv(int linhas) {
+        return IntStream.range(0, linhas)
+                .mapToObj(index -> "\"Livro " + index + "\",\"Autor " + index + "\",\"Romance\",\"Realismo\"")
+                .collect(Collectors.joining("\n", "titulo,autor,genero,periodo\n", "\n"))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package com.books.repository.s3;
+
+import com.books.core.Configuration;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3BucketListTest {
+
+    private static final String BUCKET = "example-bucket";
+    private static final byte[] CONTENT = "titulo,autor,genero,periodo\n".getBytes();
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryS3Client s3Client;
+    private S3Bucket s3Bucket;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getS3Url()).thenReturn("s3://example-bucket/path/to/files");
+        s3Client = new InMemoryS3Client();
+        s3Bucket = new S3Bucket(s3Client, configuration);
+    }
+
+    @Test
+    void deveListarArquivosDoPrefixoPercorrendoTodasAsPaginas() {
+        s3Client.listPageSize(10);
+        IntStream.range(0, 35).forEach(index ->
+                s3Client.putObject(BUCKET, String.format("path/to/files/shards/parte-%03d.csv", index), CONTENT));
+        s3Client.putObject(BUCKET, "path/to/files/outros/ignorado.csv", CONTENT);
+
+        var arquivos = s3Bucket.listFiles("shards/").orElseThrow();
+
+        assertEquals(35, arquivos.size());
+        assertEquals("shards/parte-000.csv", arquivos.get(0));
+        assertEquals("shards/parte-034.csv", arquivos.get(34));
+        assertEquals(4, s3Client.listRequests());
+    }
+
+    @Test
+    void deveListarTodosOsArquivosDoCaminhoConfiguradoQuandoPrefixoVazio() {
+        s3Client.putObject(BUCKET, "path/to/files/a.csv", CONTENT);
+        s3Client.putObject(BUCKET, "path/to/files/shards/", new byte[0]);
+        s3Client.putObject(BUCKET, "path/to/files/shards/b.csv", CONTENT);
+        s3Client.putObject(BUCKET, "path/to/files-antigos/c.csv", CONTENT);
+
+        assertEquals(List.of("a.csv", "shards/b.csv"), s3Bucket.listFiles("").orElseThrow());
+    }
+}
@@ -0,0 +1,97 @@
+package com.books.repository.s3;
+
+import com.books.core.Configuration;
+import com.books.support.InMemoryS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3BucketRangedReadTest {
+
+    private static final String BUCKET = "example-bucket";
+
+    @Mock
+    private Configuration configuration;
+
+    private InMemoryS3Client s3Client;
+    private S3Bucket s3Bucket;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getS3Url()).thenReturn("s3://example-bucket/path/to/files");
+        lenient().when(configuration.getS3RangeSizeBytes()).thenReturn(1024);
+        lenient().when(configuration.getS3RangeConcurrency()).thenReturn(3);
+        s3Client = new InMemoryS3Client();
+        s3Bucket = new S3Bucket(s3Client, configuration);
+    }
+
+    @Test
+    void deveBaixarArquivoGrandeEmIntervalosParalelosNaOrdem() throws IOException {
+        var content = criarCsv(2_000);
+        s3Client.putObject(BUCKET, "path/to/files/books.csv", content);
+
+        byte[] resultado;
+        try (var inputStream = s3Bucket.openFileAsRangedStream("books.csv").orElseThrow()) {
+            resultado = inputStream.readAllBytes();
+        }
+
+        assertArrayEquals(content, resultado);
+        var expectedRanges = (content.length + 1023) / 1024;
+        assertEquals(expectedRanges, s3Client.requestedRanges().size());
+        assertEquals("bytes=0-1023", s3Client.requestedRanges().get(0));
+        assertTrue(s3Client.maxInFlightGets() <= 3);
+    }
+
+    @Test
+    void deveUsarDownloadUnicoParaArquivoPequeno() throws IOException {
+        var content = "titulo,autor,genero,periodo\n".getBytes(StandardCharsets.UTF_8);
+        s3Client.putObject(BUCKET, "path/to/files/books.csv", content);
+
+        try (var inputStream = s3Bucket.openFileAsRangedStream("books.csv").orElseThrow()) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+
+        assertEquals(List.of(), s3Client.requestedRanges());
+    }
+
+    @Test
+    void deveFalharQuandoObjetoMudaDuranteODownload() throws IOException {
+        s3Client.putObject(BUCKET, "path/to/files/books.csv", criarCsv(2_000));
+
+        try (var inputStream = s3Bucket.openFileAsRangedStream("books.csv").orElseThrow()) {
+            inputStream.readNBytes(10);
+            s3Client.putObject(BUCKET, "path/to/files/books.csv", criarCsv(2_000));
+
+            assertThrows(IOException.class, inputStream::readAllBytes);
+        }
+    }
+
+    @Test
+    void deveRetornarOptionalVazioQuandoArquivoNaoExiste() {
+        assertFalse(s3Bucket.openFileAsRangedStream("inexistente.csv").isPresent());
+    }
+
+    private byte[] criarCsv(int linhas) {
+        return IntStream.range(0, linhas)
+                .mapToObj(index -> "\"Livro " + index + "\",\"Autor " + index + "\",\"Romance\",\"Realismo\"")
+                .collect(Collectors.joining("\n", "titulo,autor,genero,periodo\n", "\n"))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
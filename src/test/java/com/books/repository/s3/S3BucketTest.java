@@ -123,4 +123,33 @@ class S3BucketTest {
 
         verify(s3Client).getObject(any(GetObjectRequest.class));
     }
+
+    @Test
+    void deveAbrirArquivoComoStreamComSucesso() throws IOException {
+        var fileName = "books.csv";
+        var fileBytes = "titulo,autor,genero,periodo".getBytes(StandardCharsets.UTF_8);
+        var realResponseInputStream = new ResponseInputStream<>(
+                GetObjectResponse.builder().build(),
+                new ByteArrayInputStream(fileBytes));
+
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(realResponseInputStream);
+
+        var resultado = s3Bucket.openFileAsStream(fileName);
+
+        assertTrue(resultado.isPresent());
+        try (var inputStream = resultado.get()) {
+            assertEquals(fileBytes.length, inputStream.readAllBytes().length);
+        }
+        verify(s3Client).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void deveRetornarOptionalVazioQuandoErroAoAbrirStream() {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(new RuntimeException("Arquivo não encontrado"));
+
+        var resultado = s3Bucket.openFileAsStream("arquivo-inexistente.csv");
+
+        assertFalse(resultado.isPresent());
+    }
 }
@@ -0,0 +1,45 @@
+package com.books.support;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+class BandwidthLimitedInputStream extends FilterInputStream {
+
+    private final long bytesPerSecond;
+    private final long startedAt = System.nanoTime();
+    private long transferred;
+
+    BandwidthLimitedInputStream(InputStream inputStream, long bytesPerSecond) {
+        super(inputStream);
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public int read() throws IOException {
+        var value = super.read();
+        if (value != -1) {
+            throttle(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        var read = super.read(buffer, offset, length);
+        if (read > 0) {
+            throttle(read);
+        }
+        return read;
+    }
+
+    private void throttle(int bytes) {
+        transferred += bytes;
+        var expectedNanos = transferred * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+        var aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos > 0) {
+            ServiceProfile.sleep(aheadNanos);
+        }
+    }
+}
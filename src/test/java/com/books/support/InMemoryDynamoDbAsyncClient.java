@@ -0,0 +1,92 @@
+package com.books.support;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InMemoryDynamoDbAsyncClient implements DynamoDbAsyncClient {
+
+    private final Map<String, Object> items = new ConcurrentHashMap<>();
+    private final Queue<Runnable> heldWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlightWrites = new AtomicInteger();
+    private final AtomicInteger maxInFlightWrites = new AtomicInteger();
+    private final AtomicInteger unprocessedCalls = new AtomicInteger();
+    private volatile boolean holding;
+
+    public int size() {
+        return items.size();
+    }
+
+    public int maxInFlightWrites() {
+        return maxInFlightWrites.get();
+    }
+
+    public int heldWrites() {
+        return heldWrites.size();
+    }
+
+    public void returnUnprocessedOnNextCalls(int calls) {
+        unprocessedCalls.set(calls);
+    }
+
+    public void hold() {
+        holding = true;
+    }
+
+    public void release() {
+        holding = false;
+        Runnable write;
+        while ((write = heldWrites.poll()) != null) {
+            write.run();
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchWriteItemResponse> batchWriteItem(BatchWriteItemRequest request) {
+        maxInFlightWrites.accumulateAndGet(inFlightWrites.incrementAndGet(), Math::max);
+        var response = new CompletableFuture<BatchWriteItemResponse>();
+        Runnable write = () -> {
+            inFlightWrites.decrementAndGet();
+            response.complete(apply(request));
+        };
+
+        if (holding) {
+            heldWrites.add(write);
+        } else {
+            CompletableFuture.runAsync(write);
+        }
+        return response;
+    }
+
+    @Override
+    public String serviceName() {
+        return "dynamodb";
+    }
+
+    @Override
+    public void close() {
+        items.clear();
+    }
+
+    private BatchWriteItemResponse apply(BatchWriteItemRequest request) {
+        if (unprocessedCalls.getAndUpdate(calls -> Math.max(0, calls - 1)) > 0) {
+            return BatchWriteItemResponse.builder().unprocessedItems(request.requestItems()).build();
+        }
+
+        request.requestItems().values().stream()
+                .flatMap(List::stream)
+                .map(WriteRequest::putRequest)
+                .forEach(put -> items.put(put.item().get("autor").s() + "|" + put.item().get("genero").s(),
+                        put.item()));
+        return BatchWriteItemResponse.builder().unprocessedItems(Map.of()).build();
+    }
+}
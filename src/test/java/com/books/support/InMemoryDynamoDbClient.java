@@ -0,0 +1,161 @@
+package com.books.support;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class InMemoryDynamoDbClient implements DynamoDbClient {
+
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final String partitionKey;
+    private final String sortKey;
+    private final int pageSize;
+    private final ConcurrentSkipListMap<String, Map<String, AttributeValue>> items = new ConcurrentSkipListMap<>();
+    private final List<ScanRequest> scanRequests = Collections.synchronizedList(new ArrayList<>());
+    private volatile Integer failingSegment;
+    private volatile String failingPartition;
+
+    public InMemoryDynamoDbClient(String partitionKey, String sortKey, int pageSize) {
+        this.partitionKey = partitionKey;
+        this.sortKey = sortKey;
+        this.pageSize = pageSize;
+    }
+
+    public void putItem(Map<String, AttributeValue> item) {
+        items.put(storageKey(item), Map.copyOf(item));
+    }
+
+    public void failScanOfSegment(int segment) {
+        this.failingSegment = segment;
+    }
+
+    public void failWritesOfPartition(String partition) {
+        this.failingPartition = partition;
+    }
+
+    public List<ScanRequest> scanRequests() {
+        return List.copyOf(scanRequests);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public GetItemResponse getItem(GetItemRequest request) {
+        var item = items.get(storageKey(request.key()));
+        return item == null ? GetItemResponse.builder().build() : GetItemResponse.builder().item(item).build();
+    }
+
+    @Override
+    public PutItemResponse putItem(PutItemRequest request) {
+        putItem(request.item());
+        return PutItemResponse.builder().build();
+    }
+
+    @Override
+    public DeleteItemResponse deleteItem(DeleteItemRequest request) {
+        items.remove(storageKey(request.key()));
+        return DeleteItemResponse.builder().build();
+    }
+
+    @Override
+    public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+        var unprocessed = new HashMap<String, List<WriteRequest>>();
+        request.requestItems().forEach((table, writes) -> writes.forEach(write -> {
+            if (write.putRequest() != null && isFailing(write.putRequest().item())) {
+                unprocessed.computeIfAbsent(table, ignored -> new ArrayList<>()).add(write);
+            } else if (write.putRequest() != null) {
+                putItem(write.putRequest().item());
+            } else if (write.deleteRequest() != null) {
+                items.remove(storageKey(write.deleteRequest().key()));
+            }
+        }));
+        return BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build();
+    }
+
+    @Override
+    public BatchGetItemResponse batchGetItem(BatchGetItemRequest request) {
+        var responses = new HashMap<String, List<Map<String, AttributeValue>>>();
+        request.requestItems().forEach((table, keysAndAttributes) -> responses.put(table,
+                keysAndAttributes.keys().stream()
+                        .map(key -> items.get(storageKey(key)))
+                        .filter(Objects::nonNull)
+                        .toList()));
+        return BatchGetItemResponse.builder().responses(responses).unprocessedKeys(Map.of()).build();
+    }
+
+    @Override
+    public ScanResponse scan(ScanRequest request) {
+        scanRequests.add(request);
+
+        var segment = request.segment() == null ? 0 : request.segment();
+        var totalSegments = request.totalSegments() == null ? 1 : request.totalSegments();
+        if (failingSegment != null && failingSegment == segment) {
+            throw new IllegalStateException("Falha simulada no segmento " + segment);
+        }
+
+        var limit = request.limit() == null ? pageSize : Math.min(pageSize, request.limit());
+        var remaining = request.exclusiveStartKey().isEmpty()
+                ? items
+                : items.tailMap(storageKey(request.exclusiveStartKey()), false);
+
+        var page = new ArrayList<Map<String, AttributeValue>>();
+        var response = ScanResponse.builder();
+        for (var item : remaining.values()) {
+            if (Math.floorMod(item.get(partitionKey).s().hashCode(), totalSegments) != segment) {
+                continue;
+            }
+            if (page.size() == limit) {
+                var last = page.getLast();
+                response.lastEvaluatedKey(Map.of(partitionKey, last.get(partitionKey), sortKey, last.get(sortKey)));
+                break;
+            }
+            page.add(item);
+        }
+
+        return response.items(page).count(page.size()).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "dynamodb";
+    }
+
+    @Override
+    public void close() {
+        items.clear();
+    }
+
+    private boolean isFailing(Map<String, AttributeValue> item) {
+        return failingPartition != null && failingPartition.equals(item.get(partitionKey).s());
+    }
+
+    private String storageKey(Map<String, AttributeValue> item) {
+        if (sortKey == null) {
+            return item.get(partitionKey).s();
+        }
+        return item.get(partitionKey).s() + KEY_SEPARATOR + item.get(sortKey).s();
+    }
+}
@@ -0,0 +1,111 @@
+package com.books.support;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryS3AsyncClient implements S3AsyncClient {
+
+    private final int chunkSize;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger chunksSent = new AtomicInteger();
+
+    public InMemoryS3AsyncClient(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public void putObject(String key, byte[] content) {
+        objects.put(key, content.clone());
+    }
+
+    public int chunksSent() {
+        return chunksSent.get();
+    }
+
+    @Override
+    public <ReturnT> CompletableFuture<ReturnT> getObject(GetObjectRequest request,
+            AsyncResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+        var content = objects.get(request.key());
+        if (content == null) {
+            return CompletableFuture.failedFuture(NoSuchKeyException.builder().message(request.key()).build());
+        }
+
+        var future = transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder().contentLength((long) content.length).build());
+        transformer.onStream(SdkPublisher.adapt(new ChunkPublisher(content)));
+        return future;
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+
+    private final class ChunkPublisher implements Publisher<ByteBuffer> {
+
+        private final byte[] content;
+
+        private ChunkPublisher(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+
+                private final AtomicLong demand = new AtomicLong();
+                private final AtomicInteger pendingRequests = new AtomicInteger();
+                private volatile boolean cancelled;
+                private int position;
+
+                @Override
+                public void request(long n) {
+                    demand.addAndGet(n);
+                    if (pendingRequests.getAndIncrement() != 0) {
+                        return;
+                    }
+
+                    var missed = 1;
+                    do {
+                        while (!cancelled && demand.get() > 0 && position < content.length) {
+                            var length = Math.min(chunkSize, content.length - position);
+                            var chunk = ByteBuffer.wrap(content, position, length).slice();
+                            position += length;
+                            demand.decrementAndGet();
+                            chunksSent.incrementAndGet();
+                            subscriber.onNext(chunk);
+                        }
+                        if (!cancelled && position == content.length) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                        }
+                        missed = pendingRequests.addAndGet(-missed);
+                    } while (missed != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
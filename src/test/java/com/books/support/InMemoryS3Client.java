@@ -0,0 +1,275 @@
+package com.books.support;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class InMemoryS3Client implements S3Client {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final int minPartSize;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final List<String> abortedUploads = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> requestedRanges = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlightGets = new AtomicInteger();
+    private final AtomicInteger maxInFlightGets = new AtomicInteger();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private volatile int listPageSize = 1_000;
+
+    public InMemoryS3Client() {
+        this(5 * 1024 * 1024);
+    }
+
+    public InMemoryS3Client(int minPartSize) {
+        this.minPartSize = minPartSize;
+    }
+
+    public void putObject(String bucket, String key, byte[] content) {
+        putObject(bucket, key, content, null);
+    }
+
+    public void putObject(String bucket, String key, byte[] content, String contentEncoding) {
+        objects.put(bucket + "/" + key,
+                new StoredObject(content.clone(), "\"" + UUID.randomUUID() + "\"", contentEncoding));
+    }
+
+    public byte[] getObjectContent(String bucket, String key) {
+        return find(bucket, key).content().clone();
+    }
+
+    public List<String> abortedUploads() {
+        return List.copyOf(abortedUploads);
+    }
+
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    public List<String> requestedRanges() {
+        return List.copyOf(requestedRanges);
+    }
+
+    public int maxInFlightGets() {
+        return maxInFlightGets.get();
+    }
+
+    public void listPageSize(int listPageSize) {
+        this.listPageSize = listPageSize;
+    }
+
+    public int listRequests() {
+        return listRequests.get();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        listRequests.incrementAndGet();
+        var bucketPrefix = request.bucket() + "/";
+        var prefix = request.prefix() == null ? "" : request.prefix();
+        var pageSize = request.maxKeys() == null ? listPageSize : Math.min(listPageSize, request.maxKeys());
+
+        var keys = objects.keySet().stream()
+                .filter(path -> path.startsWith(bucketPrefix + prefix))
+                .map(path -> path.substring(bucketPrefix.length()))
+                .filter(key -> request.continuationToken() == null || key.compareTo(request.continuationToken()) > 0)
+                .sorted()
+                .limit(pageSize + 1L)
+                .toList();
+
+        var page = keys.subList(0, Math.min(pageSize, keys.size()));
+        var response = ListObjectsV2Response.builder()
+                .contents(page.stream()
+                        .map(key -> S3Object.builder()
+                                .key(key)
+                                .size((long) objects.get(bucketPrefix + key).content().length)
+                                .build())
+                        .toList())
+                .keyCount(page.size())
+                .isTruncated(keys.size() > pageSize);
+        if (keys.size() > pageSize) {
+            response.nextContinuationToken(page.getLast());
+        }
+        return response.build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        var stored = find(request.bucket(), request.key());
+        return HeadObjectResponse.builder()
+                .contentLength((long) stored.content().length)
+                .eTag(stored.eTag())
+                .contentEncoding(stored.contentEncoding())
+                .build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+            ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        maxInFlightGets.accumulateAndGet(inFlightGets.incrementAndGet(), Math::max);
+
+        try {
+            var stored = find(request.bucket(), request.key());
+
+            if (request.ifMatch() != null && !request.ifMatch().equals(stored.eTag())) {
+                throw S3Exception.builder().statusCode(412).message("Precondition Failed").build();
+            }
+
+            var content = stored.content();
+            if (request.range() != null) {
+                requestedRanges.add(request.range());
+                content = slice(content, request.range());
+            }
+
+            var response = GetObjectResponse.builder()
+                    .contentLength((long) content.length)
+                    .eTag(stored.eTag())
+                    .contentEncoding(stored.contentEncoding())
+                    .build();
+            return responseTransformer.transform(response,
+                    AbortableInputStream.create(new ByteArrayInputStream(content)));
+        } catch (S3Exception exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw SdkClientException.create("Falha no S3 em memória", exception);
+        } finally {
+            inFlightGets.decrementAndGet();
+        }
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        var uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        return CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(uploadId)
+                .build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        var parts = findUpload(request.uploadId());
+        var content = new ByteArrayOutputStream();
+        try (var inputStream = requestBody.contentStreamProvider().newStream()) {
+            inputStream.transferTo(content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        parts.put(request.partNumber(), content.toByteArray());
+        return UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        var parts = findUpload(request.uploadId());
+        var completed = request.multipartUpload().parts();
+        var content = new ByteArrayOutputStream();
+
+        for (var index = 0; index < completed.size(); index++) {
+            var part = completed.get(index);
+            var bytes = parts.get(part.partNumber());
+            if (bytes == null || (index > 0 && completed.get(index - 1).partNumber() >= part.partNumber())) {
+                throw S3Exception.builder().statusCode(400).message("Invalid part: " + part.partNumber()).build();
+            }
+            if (index < completed.size() - 1 && bytes.length < minPartSize) {
+                throw S3Exception.builder().statusCode(400).message("EntityTooSmall: " + part.partNumber()).build();
+            }
+            content.writeBytes(bytes);
+        }
+
+        uploads.remove(request.uploadId());
+        putObject(request.bucket(), request.key(), content.toByteArray());
+        return CompleteMultipartUploadResponse.builder().bucket(request.bucket()).key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        findUpload(request.uploadId());
+        uploads.remove(request.uploadId());
+        abortedUploads.add(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+
+    private StoredObject find(String bucket, String key) {
+        var stored = objects.get(bucket + "/" + key);
+        if (stored == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("Key not found: " + key).build();
+        }
+        return stored;
+    }
+
+    private Map<Integer, byte[]> findUpload(String uploadId) {
+        var parts = uploads.get(uploadId);
+        if (parts == null) {
+            throw NoSuchUploadException.builder().statusCode(404).message("Upload not found: " + uploadId).build();
+        }
+        return parts;
+    }
+
+    private static byte[] slice(byte[] content, String range) {
+        var matcher = RANGE.matcher(range);
+        if (!matcher.matches()) {
+            throw S3Exception.builder().statusCode(416).message("Invalid range: " + range).build();
+        }
+
+        var start = Integer.parseInt(matcher.group(1));
+        var end = matcher.group(2).isEmpty() ? content.length - 1
+                : Math.min(Integer.parseInt(matcher.group(2)), content.length - 1);
+        if (start >= content.length) {
+            throw S3Exception.builder().statusCode(416).message("Range not satisfiable: " + range).build();
+        }
+
+        return Arrays.copyOfRange(content, start, end + 1);
+    }
+
+    private record StoredObject(byte[] content, String eTag, String contentEncoding) {
+    }
+}
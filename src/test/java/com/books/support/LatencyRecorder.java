@@ -0,0 +1,41 @@
+package com.books.support;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LatencyRecorder {
+
+    private final Object lock = new Object();
+    private final AtomicLong requests = new AtomicLong();
+    private long[] samples = new long[1_024];
+    private int size;
+
+    public void record(long nanos) {
+        requests.incrementAndGet();
+        synchronized (lock) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public double percentileMillis(double percentile) {
+        long[] sorted;
+        synchronized (lock) {
+            sorted = Arrays.copyOf(samples, size);
+        }
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        Arrays.sort(sorted);
+        var index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.books.support;
+
+import java.time.Duration;
+import java.util.Random;
+
+public record ServiceProfile(Duration latency, long bytesPerSecond, double throttleRate, double unprocessedRate,
+        long seed) {
+
+    public static ServiceProfile ideal() {
+        return new ServiceProfile(Duration.ZERO, 0, 0, 0, 0);
+    }
+
+    public ServiceProfile withLatency(Duration latency) {
+        return new ServiceProfile(latency, bytesPerSecond, throttleRate, unprocessedRate, seed);
+    }
+
+    public ServiceProfile withBandwidth(long bytesPerSecond) {
+        return new ServiceProfile(latency, bytesPerSecond, throttleRate, unprocessedRate, seed);
+    }
+
+    public ServiceProfile withThrottling(double throttleRate, double unprocessedRate) {
+        return new ServiceProfile(latency, bytesPerSecond, throttleRate, unprocessedRate, seed);
+    }
+
+    Random newRandom() {
+        return new Random(seed);
+    }
+
+    void pause() {
+        if (!latency.isZero()) {
+            sleep(latency.toNanos());
+        }
+    }
+
+    static void sleep(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera simulada interrompida", exception);
+        }
+    }
+}
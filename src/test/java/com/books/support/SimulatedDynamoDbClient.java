@@ -0,0 +1,98 @@
+package com.books.support;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SimulatedDynamoDbClient implements DynamoDbClient {
+
+    private final InMemoryDynamoDbClient delegate;
+    private final ServiceProfile profile;
+    private final Random random;
+    private final LatencyRecorder writeLatencies = new LatencyRecorder();
+    private final AtomicLong throttledRequests = new AtomicLong();
+    private final AtomicLong unprocessedItems = new AtomicLong();
+
+    public SimulatedDynamoDbClient(InMemoryDynamoDbClient delegate, ServiceProfile profile) {
+        this.delegate = delegate;
+        this.profile = profile;
+        this.random = profile.newRandom();
+    }
+
+    public LatencyRecorder writeLatencies() {
+        return writeLatencies;
+    }
+
+    public long throttledRequests() {
+        return throttledRequests.get();
+    }
+
+    public long unprocessedItems() {
+        return unprocessedItems.get();
+    }
+
+    @Override
+    public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+        var startedAt = System.nanoTime();
+        try {
+            profile.pause();
+
+            if (random.nextDouble() < profile.throttleRate()) {
+                throttledRequests.incrementAndGet();
+                throw ProvisionedThroughputExceededException.builder()
+                        .statusCode(400)
+                        .message("Throughput simulado excedido")
+                        .build();
+            }
+
+            if (random.nextDouble() >= profile.unprocessedRate()) {
+                return delegate.batchWriteItem(request);
+            }
+
+            var accepted = new HashMap<String, List<WriteRequest>>();
+            var unprocessed = new HashMap<String, List<WriteRequest>>();
+            request.requestItems().forEach((table, writes) -> {
+                var half = writes.size() / 2;
+                accepted.put(table, writes.subList(0, half));
+                if (half < writes.size()) {
+                    unprocessed.put(table, new ArrayList<>(writes.subList(half, writes.size())));
+                    unprocessedItems.addAndGet(writes.size() - half);
+                }
+            });
+            delegate.batchWriteItem(request.toBuilder().requestItems(accepted).build());
+            return BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build();
+        } finally {
+            writeLatencies.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    public BatchGetItemResponse batchGetItem(BatchGetItemRequest request) {
+        profile.pause();
+        return delegate.batchGetItem(request);
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    public int size() {
+        return delegate.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.books.support;
+
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.InputStream;
+
+public class SimulatedS3Client implements S3Client {
+
+    private final InMemoryS3Client delegate;
+    private final ServiceProfile profile;
+    private final LatencyRecorder latencies = new LatencyRecorder();
+
+    public SimulatedS3Client(InMemoryS3Client delegate, ServiceProfile profile) {
+        this.delegate = delegate;
+        this.profile = profile;
+    }
+
+    public LatencyRecorder latencies() {
+        return latencies;
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        var startedAt = System.nanoTime();
+        try {
+            profile.pause();
+            return delegate.headObject(request);
+        } finally {
+            latencies.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+            ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        var startedAt = System.nanoTime();
+        try {
+            profile.pause();
+            return delegate.getObject(request, (response, inputStream) -> responseTransformer.transform(response,
+                    AbortableInputStream.create(limit(inputStream))));
+        } finally {
+            latencies.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private InputStream limit(InputStream inputStream) {
+        return profile.bytesPerSecond() > 0
+                ? new BandwidthLimitedInputStream(inputStream, profile.bytesPerSecond())
+                : inputStream;
+    }
+}